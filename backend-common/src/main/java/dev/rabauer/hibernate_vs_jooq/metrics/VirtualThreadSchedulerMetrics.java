@@ -0,0 +1,104 @@
+package dev.rabauer.hibernate_vs_jooq.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jdk.jfr.consumer.RecordingStream;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gauges for how the virtual threads behind {@code @RunOnVirtualThread} spend their time, next to Micrometer's
+ * {@code jvm.threads.virtual.pinned}:
+ * <ul>
+ *     <li>{@code virtual.threads.mounted}: running on a carrier thread</li>
+ *     <li>{@code virtual.threads.queued}: runnable, waiting for a free carrier</li>
+ *     <li>{@code virtual.threads.live}: started and not yet terminated, tracked from JFR start/end events</li>
+ *     <li>{@code virtual.threads.parked}: the rest, i.e. blocked on I/O or a lock such as the connection pool</li>
+ * </ul>
+ * Mounted and queued come from the JDK's VirtualThreadScheduler MXBean (JDK 24+) and are not registered on
+ * older JVMs. Live and parked need the {@code jdk.VirtualThreadStart}/{@code jdk.VirtualThreadEnd} events, which the
+ * JDK leaves disabled by default; at one virtual thread per request the recording stream costs little next to the
+ * request itself, so they are on unless {@code virtual-thread-metrics.live-count=false}.
+ * <p>
+ * Shared by {@code backend-jooq} and {@code backend-hibernate}, which pick it up as a bean from this module's jar.
+ */
+@ApplicationScoped
+public class VirtualThreadSchedulerMetrics {
+
+    private static final String SCHEDULER_MBEAN = "jdk.management:type=VirtualThreadScheduler";
+
+    private final MeterRegistry registry;
+    private final boolean virtualThreadsEnabled;
+    private final boolean liveCount;
+    private final LongAdder live = new LongAdder();
+    private RecordingStream recording;
+
+    public VirtualThreadSchedulerMetrics(MeterRegistry registry,
+                                         @ConfigProperty(name = "quarkus.virtual-threads.enabled", defaultValue = "true") boolean virtualThreadsEnabled,
+                                         @ConfigProperty(name = "virtual-thread-metrics.live-count", defaultValue = "true") boolean liveCount) {
+        this.registry = registry;
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+        this.liveCount = liveCount;
+    }
+
+    void onStart(@Observes StartupEvent event) throws JMException {
+        if (!virtualThreadsEnabled) {
+            return;
+        }
+        if (liveCount) {
+            recording = new RecordingStream();
+            recording.enable("jdk.VirtualThreadStart");
+            recording.enable("jdk.VirtualThreadEnd");
+            recording.onEvent("jdk.VirtualThreadStart", e -> live.increment());
+            recording.onEvent("jdk.VirtualThreadEnd", e -> live.decrement());
+            recording.startAsync();
+            Gauge.builder("virtual.threads.live", live, LongAdder::sum)
+                    .description("Virtual threads started and not yet terminated")
+                    .register(registry);
+        }
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName scheduler = new ObjectName(SCHEDULER_MBEAN);
+        if (!server.isRegistered(scheduler)) {
+            return;
+        }
+        Gauge.builder("virtual.threads.mounted", () -> attribute(server, scheduler, "MountedVirtualThreadCount"))
+                .description("Virtual threads currently mounted on a carrier thread")
+                .register(registry);
+        Gauge.builder("virtual.threads.queued", () -> attribute(server, scheduler, "QueuedVirtualThreadCount"))
+                .description("Runnable virtual threads waiting for a carrier thread")
+                .register(registry);
+        if (!liveCount) {
+            return;
+        }
+        Gauge.builder("virtual.threads.parked", () -> Math.max(0, live.sum()
+                        - attribute(server, scheduler, "MountedVirtualThreadCount")
+                        - attribute(server, scheduler, "QueuedVirtualThreadCount")))
+                .description("Live virtual threads that are neither mounted nor queued")
+                .register(registry);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    private static long attribute(MBeanServer server, ObjectName scheduler, String name) {
+        try {
+            return ((Number) server.getAttribute(scheduler, name)).longValue();
+        } catch (JMException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package backend_jooq.api;
+
+import backend_jooq.api.dtos.ApiAddress;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+
+@Provider
+@Produces(MediaType.APPLICATION_JSON)
+public class AddressListWriter extends JsonListWriter<ApiAddress> {
+
+    private static final SerializedString STREET = new SerializedString("street");
+    private static final SerializedString CITY = new SerializedString("city");
+    private static final SerializedString COUNTRY = new SerializedString("country");
+
+    public AddressListWriter(ObjectMapper objectMapper) {
+        super(ApiAddress.class, objectMapper);
+    }
+
+    @Override
+    protected void writeFields(JsonGenerator generator, ApiAddress address) throws IOException {
+        generator.writeFieldName(STREET);
+        generator.writeString(address.street());
+        generator.writeFieldName(CITY);
+        generator.writeString(address.city());
+        generator.writeFieldName(COUNTRY);
+        generator.writeString(address.country());
+    }
+}
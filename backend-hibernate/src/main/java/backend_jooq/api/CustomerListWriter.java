@@ -0,0 +1,41 @@
+package backend_jooq.api;
+
+import backend_jooq.api.dtos.ApiCustomer;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+
+@Provider
+@Produces(MediaType.APPLICATION_JSON)
+public class CustomerListWriter extends JsonListWriter<ApiCustomer> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString FIRST_NAME = new SerializedString("firstName");
+    private static final SerializedString LAST_NAME = new SerializedString("lastName");
+    private static final SerializedString EMAIL = new SerializedString("email");
+
+    public CustomerListWriter(ObjectMapper objectMapper) {
+        super(ApiCustomer.class, objectMapper);
+    }
+
+    @Override
+    protected void writeFields(JsonGenerator generator, ApiCustomer customer) throws IOException {
+        generator.writeFieldName(ID);
+        if (customer.id() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(customer.id());
+        }
+        generator.writeFieldName(FIRST_NAME);
+        generator.writeString(customer.firstName());
+        generator.writeFieldName(LAST_NAME);
+        generator.writeString(customer.lastName());
+        generator.writeFieldName(EMAIL);
+        generator.writeString(customer.email());
+    }
+}
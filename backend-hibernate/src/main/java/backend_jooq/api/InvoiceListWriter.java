@@ -0,0 +1,35 @@
+package backend_jooq.api;
+
+import backend_jooq.api.dtos.ApiInvoice;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+
+@Provider
+@Produces(MediaType.APPLICATION_JSON)
+public class InvoiceListWriter extends JsonListWriter<ApiInvoice> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializedString TOTAL_AMOUNT_CENTS = new SerializedString("totalAmountCents");
+
+    public InvoiceListWriter(ObjectMapper objectMapper) {
+        super(ApiInvoice.class, objectMapper);
+    }
+
+    @Override
+    protected void writeFields(JsonGenerator generator, ApiInvoice invoice) throws IOException {
+        generator.writeFieldName(ID);
+        generator.writeNumber(invoice.id());
+        // ISO-8601 like Jackson's InstantSerializer with quarkus.jackson.write-dates-as-timestamps=false
+        generator.writeFieldName(TIMESTAMP);
+        generator.writeString(invoice.timestamp() == null ? null : invoice.timestamp().toString());
+        generator.writeFieldName(TOTAL_AMOUNT_CENTS);
+        generator.writeNumber(invoice.totalAmountCents());
+    }
+}
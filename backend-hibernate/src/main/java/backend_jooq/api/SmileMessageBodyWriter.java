@@ -0,0 +1,51 @@
+package backend_jooq.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Writes responses as Smile, Jackson's binary JSON, for clients that ask for {@value #APPLICATION_SMILE}. The DTOs
+ * and their annotations stay the same as for JSON; Smile writes repeated field names as back references and numbers
+ * in binary, so a list of customers ends up smaller and is faster to write than its JSON text.
+ */
+@Provider
+@Produces(SmileMessageBodyWriter.APPLICATION_SMILE)
+public class SmileMessageBodyWriter implements MessageBodyWriter<Object> {
+
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+
+    private final ObjectWriter writer;
+
+    public SmileMessageBodyWriter(ObjectMapper objectMapper) {
+        // the application's mapper with all its modules and settings, producing Smile instead of text
+        this.writer = objectMapper.copyWith(new SmileFactory())
+                .writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return true;
+    }
+
+    @Override
+    public void writeTo(Object entity, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+        // without the qs parameter of the resource's @Produces
+        httpHeaders.putSingle(HttpHeaders.CONTENT_TYPE, APPLICATION_SMILE);
+        writer.writeValue(entityStream, entity);
+    }
+}
@@ -0,0 +1,4 @@
+package backend_jooq.api.dtos;
+
+public record ApiBulkCustomer(String firstName, String lastName, String email, ApiAddress address) {
+}
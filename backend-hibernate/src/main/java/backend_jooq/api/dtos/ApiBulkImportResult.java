@@ -0,0 +1,9 @@
+package backend_jooq.api.dtos;
+
+import java.util.List;
+
+public record ApiBulkImportResult(long received, long imported, long rejected, List<ApiRejectedRow> rejectedRows) {
+
+    public record ApiRejectedRow(long line, String email, String reason) {
+    }
+}
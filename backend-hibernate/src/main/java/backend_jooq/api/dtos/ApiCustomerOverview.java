@@ -0,0 +1,10 @@
+package backend_jooq.api.dtos;
+
+import java.time.Instant;
+import java.util.List;
+
+public record ApiCustomerOverview(ApiCustomer customer, List<ApiAddress> addresses, List<ApiInvoiceOverview> invoices) {
+
+    public record ApiInvoiceOverview(int id, Instant timestamp, long totalAmountCents, List<ApiInvoiceDetail.ApiInvoiceItem> items) {
+    }
+}
@@ -2,6 +2,6 @@ package backend_jooq.api.dtos;
 
 import java.time.Instant;
 
-public record ApiInvoice(int id, Instant timestamp, int totalAmount) {
+public record ApiInvoice(int id, Instant timestamp, long totalAmountCents) {
 }
 
@@ -0,0 +1,6 @@
+package backend_jooq.db.dtos;
+
+public record DbCustomerImport(
+        String firstName, String lastName, String email, String street, String city, String country
+) {
+}
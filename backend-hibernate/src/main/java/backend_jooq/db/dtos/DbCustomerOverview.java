@@ -0,0 +1,10 @@
+package backend_jooq.db.dtos;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record DbCustomerOverview(DbCustomer customer, List<DbAddress> addresses, List<DbInvoiceOverview> invoices) {
+
+    public record DbInvoiceOverview(Integer invoiceId, LocalDate invoiceDate, long totalAmountCents, List<DbInvoiceItem> items) {
+    }
+}
@@ -1,6 +1,4 @@
 package backend_jooq.db.dtos;
 
-import java.math.BigDecimal;
-
-public record DbInvoiceItem(int quantity, BigDecimal unitPrice, String productName, BigDecimal productPrice) {
+public record DbInvoiceItem(int quantity, long unitPriceCents, String productName, long productPriceCents) {
 }
@@ -0,0 +1,7 @@
+package backend_jooq.db.dtos;
+
+/**
+ * Natural key of a product, its name and price in cents.
+ */
+public record DbProductKey(String name, long priceCents) {
+}
@@ -1,7 +1,17 @@
 package backend_jooq.mapper;
 
+import backend_jooq.api.dtos.ApiBulkCustomer;
+import backend_jooq.api.dtos.ApiBulkImportResult;
 import backend_jooq.api.dtos.ApiCustomer;
+import backend_jooq.api.dtos.ApiCustomerOverview;
+import backend_jooq.api.dtos.ApiCustomerSummary;
 import backend_jooq.db.dtos.DbCustomer;
+import backend_jooq.db.dtos.DbCustomerImport;
+import backend_jooq.db.dtos.DbCustomerOverview;
+import backend_jooq.db.dtos.DbCustomerSummary;
+import backend_jooq.db.dtos.DbImportResult;
+
+import java.time.ZoneOffset;
 
 public final class CustomerMapper {
     private CustomerMapper() {}
@@ -9,4 +19,31 @@ public final class CustomerMapper {
     public static ApiCustomer dbToApi(DbCustomer db) {
         return new ApiCustomer(db.customerId(), db.firstName(), db.lastName(), db.email());
     }
+
+    public static ApiCustomerOverview dbToApi(DbCustomerOverview db) {
+        return new ApiCustomerOverview(dbToApi(db.customer()),
+                db.addresses().stream().map(AddressMapper::dbToApi).toList(),
+                db.invoices().stream().map(InvoiceMapper::dbToApi).toList());
+    }
+
+    public static ApiCustomerSummary dbToApi(DbCustomerSummary db) {
+        var lastInvoice = db.lastInvoiceDate();
+        return new ApiCustomerSummary(db.customerId(), db.invoiceCount(), db.totalRevenueCents(),
+                lastInvoice == null ? null : lastInvoice.atStartOfDay().toInstant(ZoneOffset.UTC));
+    }
+
+    public static DbCustomerImport apiToDbImport(ApiBulkCustomer api) {
+        var address = api.address();
+        return new DbCustomerImport(api.firstName(), api.lastName(), api.email(),
+                address == null ? null : address.street(),
+                address == null ? null : address.city(),
+                address == null ? null : address.country());
+    }
+
+    public static ApiBulkImportResult dbToApi(DbImportResult db) {
+        return new ApiBulkImportResult(db.received(), db.imported(), db.rejected(),
+                db.rejectedRows().stream()
+                        .map(r -> new ApiBulkImportResult.ApiRejectedRow(r.line(), r.email(), r.reason()))
+                        .toList());
+    }
 }
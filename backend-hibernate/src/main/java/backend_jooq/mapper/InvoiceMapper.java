@@ -1,7 +1,9 @@
 package backend_jooq.mapper;
 
+import backend_jooq.api.dtos.ApiCustomerOverview;
 import backend_jooq.api.dtos.ApiInvoice;
 import backend_jooq.api.dtos.ApiInvoiceDetail;
+import backend_jooq.db.dtos.DbCustomerOverview;
 import backend_jooq.db.dtos.DbInvoice;
 import backend_jooq.db.dtos.DbInvoiceItem;
 
@@ -13,15 +15,23 @@ public final class InvoiceMapper {
 
     public static ApiInvoice dbToApi(DbInvoice db) {
         var timestamp = db.invoiceDate().atStartOfDay().toInstant(ZoneOffset.UTC);
-        int total = db.totalAmount() == null ? 0 : db.totalAmount().intValue();
-        return new ApiInvoice(db.invoiceId(), timestamp, total);
+        return new ApiInvoice(db.invoiceId(), timestamp, db.totalAmountCents());
+    }
+
+    public static ApiCustomerOverview.ApiInvoiceOverview dbToApi(DbCustomerOverview.DbInvoiceOverview db) {
+        var timestamp = db.invoiceDate().atStartOfDay().toInstant(ZoneOffset.UTC);
+        return new ApiCustomerOverview.ApiInvoiceOverview(db.invoiceId(), timestamp, db.totalAmountCents(),
+                db.items().stream().map(InvoiceMapper::itemToApi).toList());
     }
 
     public static ApiInvoiceDetail itemsToApiDetail(List<DbInvoiceItem> items) {
-        var apiItems = items.stream().map(i -> new ApiInvoiceDetail.ApiInvoiceItem(
-                i.quantity(),
-                new ApiInvoiceDetail.ApiProduct(i.productName(), i.productPrice().doubleValue())
-        )).toList();
-        return new ApiInvoiceDetail(apiItems);
+        return new ApiInvoiceDetail(items.stream().map(InvoiceMapper::itemToApi).toList());
+    }
+
+    private static ApiInvoiceDetail.ApiInvoiceItem itemToApi(DbInvoiceItem item) {
+        return new ApiInvoiceDetail.ApiInvoiceItem(
+                item.quantity(),
+                new ApiInvoiceDetail.ApiProduct(item.productName(), item.productPriceCents())
+        );
     }
 }
@@ -0,0 +1,35 @@
+package backend_jooq.mapper;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * Read-only view of {@code source} that maps every element when it is read, for response bodies that are written
+ * once and need no list of their own. Each read maps again, so iterate it once.
+ */
+public final class MappedList<S, T> extends AbstractList<T> implements RandomAccess {
+
+    private final List<S> source;
+    private final Function<? super S, ? extends T> mapper;
+
+    private MappedList(List<S> source, Function<? super S, ? extends T> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    public static <S, T> List<T> of(List<S> source, Function<? super S, ? extends T> mapper) {
+        return new MappedList<>(source, mapper);
+    }
+
+    @Override
+    public T get(int index) {
+        return mapper.apply(source.get(index));
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+}
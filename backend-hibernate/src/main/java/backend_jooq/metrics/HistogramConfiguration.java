@@ -0,0 +1,49 @@
+package backend_jooq.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Percentile histograms for the endpoints ({@code http.server.requests}, per URI template) and the repositories
+ * ({@value RepositoryMetricsInterceptor#CALLS}, {@value RepositoryMetricsInterceptor#ROWS}). They are published as
+ * Prometheus buckets, so p95 and p99 can be computed with {@code histogram_quantile} across instances and compared
+ * between the backends. The bounds keep the number of buckets per meter down.
+ */
+@Singleton
+public class HistogramConfiguration {
+
+    private static final Set<String> TIMERS = Set.of("http.server.requests", RepositoryMetricsInterceptor.CALLS);
+
+    @Produces
+    @Singleton
+    public MeterFilter histograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (TIMERS.contains(id.getName())) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                            .maximumExpectedValue((double) Duration.ofSeconds(10).toNanos())
+                            .build()
+                            .merge(config);
+                }
+                if (id.getName().equals(RepositoryMetricsInterceptor.ROWS)) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .minimumExpectedValue(1.0)
+                            .maximumExpectedValue(100_000.0)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package backend_jooq.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import java.util.Collection;
+
+/**
+ * The meters of a {@link MeasuredRepository}, tagged with the repository's simple class name and the method, which
+ * are the same in backend-jooq and backend-hibernate:
+ * <ul>
+ *     <li>{@value #CALLS}: a timer per call, with an {@code exception} tag that is {@code none} on success</li>
+ *     <li>{@value #ROWS}: the size of the returned collection, for the methods that return one</li>
+ * </ul>
+ * Runs outside {@code @Transactional}, so the timings of the writes include the commit, and outside
+ * {@code @CacheResult}, so cache hits show up as fast calls. With group commit, the writer thread calls
+ * {@code create} and {@code createInvoice} inside the batch's transaction, so those timings leave out the wait in the
+ * queue and the commit shared with the batch. The histograms are set up in {@link HistogramConfiguration}.
+ */
+@MeasuredRepository
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE)
+public class RepositoryMetricsInterceptor {
+
+    static final String CALLS = "repository.calls";
+    static final String ROWS = "repository.rows";
+
+    private final MeterRegistry registry;
+
+    public RepositoryMetricsInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @AroundInvoke
+    Object measure(InvocationContext context) throws Exception {
+        // the declaring class, not the CDI subclass the call goes through
+        Tags tags = Tags.of(
+                "class", context.getMethod().getDeclaringClass().getSimpleName(),
+                "method", context.getMethod().getName());
+        Timer.Sample sample = Timer.start(registry);
+        String exception = "none";
+        try {
+            Object result = context.proceed();
+            if (result instanceof Collection<?> rows) {
+                DistributionSummary.builder(ROWS)
+                        .description("Rows returned by a repository method")
+                        .baseUnit("rows")
+                        .tags(tags)
+                        .register(registry)
+                        .record(rows.size());
+            }
+            return result;
+        } catch (Exception e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(CALLS)
+                    .description("Calls of a repository method")
+                    .tags(tags)
+                    .tag("exception", exception)
+                    .register(registry));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package backend_jooq.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Money columns, {@code NUMERIC(p, 2)}, as a number of cents, so the entities hold {@code Long}s and totals are
+ * summed and multiplied as {@code long}s instead of a {@link BigDecimal} per value. The driver still reads a
+ * {@link BigDecimal}, which is turned into cents right away. Native queries bypass the converter and go through
+ * {@link #cents} and {@link #amount} themselves.
+ */
+@Converter
+public class CentsConverter implements AttributeConverter<Long, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Long cents) {
+        return cents == null ? null : amount(cents);
+    }
+
+    @Override
+    public Long convertToEntityAttribute(BigDecimal amount) {
+        return amount == null ? null : cents(amount);
+    }
+
+    /**
+     * The cents of a column value; the columns have a scale of 2, so this is exact.
+     */
+    public static long cents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+
+    public static BigDecimal amount(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
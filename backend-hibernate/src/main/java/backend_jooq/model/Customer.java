@@ -1,15 +1,29 @@
 package backend_jooq.model;
 
 import jakarta.persistence.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 @Entity
 @Table(name = "customer")
+@NamedEntityGraph(
+        name = Customer.OVERVIEW_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("addresses"),
+                @NamedAttributeNode(value = "invoices", subgraph = "invoice-items")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "invoice-items", attributeNodes = @NamedAttributeNode(value = "items", subgraph = "item-product")),
+                @NamedSubgraph(name = "item-product", attributeNodes = @NamedAttributeNode("product"))
+        }
+)
 public class Customer {
 
+    public static final String OVERVIEW_GRAPH = "Customer.overview";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_seq")
+    @SequenceGenerator(name = "customer_seq", sequenceName = "customer_seq", allocationSize = 50)
     @Column(name = "customer_id")
     private Integer customerId;
 
@@ -22,11 +36,14 @@ public class Customer {
     @Column(name = "email", nullable = false, unique = true)
     private String email;
 
+    // sets rather than lists: Hibernate cannot join fetch more than one bag in the same query
     @OneToMany(mappedBy = "customer", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<Address> addresses = new ArrayList<>();
+    @OrderBy("addressId")
+    private Set<Address> addresses = new LinkedHashSet<>();
 
     @OneToMany(mappedBy = "customer", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<Invoice> invoices = new ArrayList<>();
+    @OrderBy("invoiceId")
+    private Set<Invoice> invoices = new LinkedHashSet<>();
 
     public Customer() {}
 
@@ -52,4 +69,12 @@ public class Customer {
         return email;
     }
 
+    public Set<Address> getAddresses() {
+        return addresses;
+    }
+
+    public Set<Invoice> getInvoices() {
+        return invoices;
+    }
+
 }
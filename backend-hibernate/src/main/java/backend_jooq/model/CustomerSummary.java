@@ -0,0 +1,37 @@
+package backend_jooq.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+
+/**
+ * Per-customer invoice aggregates. Only written by the native upsert in {@code InvoiceRepository}, which JPA has
+ * no equivalent for, hence read-only here.
+ */
+@Entity
+@Immutable
+@Table(name = "customer_summary")
+public class CustomerSummary {
+
+    @Id
+    @Column(name = "customer_id")
+    private Integer customerId;
+
+    @Column(name = "invoice_count", nullable = false)
+    private Integer invoiceCount;
+
+    @Column(name = "total_revenue", nullable = false)
+    @Convert(converter = CentsConverter.class)
+    private Long totalRevenueCents;
+
+    @Column(name = "last_invoice_date", nullable = false)
+    private LocalDate lastInvoiceDate;
+
+    public CustomerSummary() {}
+
+    public Integer getCustomerId() { return customerId; }
+    public Integer getInvoiceCount() { return invoiceCount; }
+    public Long getTotalRevenueCents() { return totalRevenueCents; }
+    public LocalDate getLastInvoiceDate() { return lastInvoiceDate; }
+}
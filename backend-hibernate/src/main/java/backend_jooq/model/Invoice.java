@@ -1,17 +1,17 @@
 package backend_jooq.model;
 
 import jakarta.persistence.*;
-import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 @Entity
 @Table(name = "invoice")
 public class Invoice {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "invoice_seq")
+    @SequenceGenerator(name = "invoice_seq", sequenceName = "invoice_seq", allocationSize = 50)
     @Column(name = "invoice_id")
     private Integer invoiceId;
 
@@ -23,21 +23,23 @@ public class Invoice {
     private LocalDate invoiceDate;
 
     @Column(name = "total_amount", nullable = false)
-    private BigDecimal totalAmount;
+    @Convert(converter = CentsConverter.class)
+    private Long totalAmountCents;
 
     @OneToMany(mappedBy = "invoice", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<InvoiceItem> items = new ArrayList<>();
+    @OrderBy("invoiceItemId")
+    private Set<InvoiceItem> items = new LinkedHashSet<>();
 
     public Invoice() {}
 
-    public Invoice(Customer customer, LocalDate invoiceDate, BigDecimal totalAmount) {
+    public Invoice(Customer customer, LocalDate invoiceDate, long totalAmountCents) {
         this.customer = customer;
         this.invoiceDate = invoiceDate;
-        this.totalAmount = totalAmount;
+        this.totalAmountCents = totalAmountCents;
     }
 
     public Integer getInvoiceId() { return invoiceId; }
     public LocalDate getInvoiceDate() { return invoiceDate; }
-    public BigDecimal getTotalAmount() { return totalAmount; }
-    public List<InvoiceItem> getItems() { return items; }
+    public Long getTotalAmountCents() { return totalAmountCents; }
+    public Set<InvoiceItem> getItems() { return items; }
 }
@@ -1,14 +1,15 @@
 package backend_jooq.model;
 
 import jakarta.persistence.*;
-import java.math.BigDecimal;
+import java.time.LocalDate;
 
 @Entity
 @Table(name = "invoice_item")
 public class InvoiceItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "invoice_item_seq")
+    @SequenceGenerator(name = "invoice_item_seq", sequenceName = "invoice_item_seq", allocationSize = 50)
     @Column(name = "invoice_item_id")
     private Integer invoiceItemId;
 
@@ -24,18 +25,24 @@ public class InvoiceItem {
     private int quantity;
 
     @Column(name = "unit_price", nullable = false)
-    private BigDecimal unitPrice;
+    @Convert(converter = CentsConverter.class)
+    private Long unitPriceCents;
+
+    // the invoice's date, carried down as the partition key; fk_invoice_item_invoice covers (invoice_id, invoice_date)
+    @Column(name = "invoice_date", nullable = false)
+    private LocalDate invoiceDate;
 
     public InvoiceItem() {}
 
-    public InvoiceItem(Invoice invoice, Product product, int quantity, BigDecimal unitPrice) {
+    public InvoiceItem(Invoice invoice, Product product, int quantity, long unitPriceCents) {
         this.invoice = invoice;
         this.product = product;
         this.quantity = quantity;
-        this.unitPrice = unitPrice;
+        this.unitPriceCents = unitPriceCents;
+        this.invoiceDate = invoice.getInvoiceDate();
     }
 
     public int getQuantity() { return quantity; }
-    public BigDecimal getUnitPrice() { return unitPrice; }
+    public Long getUnitPriceCents() { return unitPriceCents; }
     public Product getProduct() { return product; }
 }
@@ -1,14 +1,14 @@
 package backend_jooq.model;
 
 import jakarta.persistence.*;
-import java.math.BigDecimal;
 
 @Entity
-@Table(name = "product")
+@Table(name = "product", uniqueConstraints = @UniqueConstraint(name = "uq_product_name_price", columnNames = {"product_name", "price"}))
 public class Product {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
     @Column(name = "product_id")
     private Integer productId;
 
@@ -16,16 +16,17 @@ public class Product {
     private String productName;
 
     @Column(name = "price", nullable = false)
-    private BigDecimal price;
+    @Convert(converter = CentsConverter.class)
+    private Long priceCents;
 
     public Product() {}
 
-    public Product(String productName, BigDecimal price) {
+    public Product(String productName, long priceCents) {
         this.productName = productName;
-        this.price = price;
+        this.priceCents = priceCents;
     }
 
     public Integer getProductId() { return productId; }
     public String getProductName() { return productName; }
-    public BigDecimal getPrice() { return price; }
+    public Long getPriceCents() { return priceCents; }
 }
@@ -1,19 +1,29 @@
 package backend_jooq.repositories;
 
 import backend_jooq.db.dtos.DbAddress;
+import backend_jooq.metrics.MeasuredRepository;
 import backend_jooq.model.Address;
+import io.quarkus.cache.CacheResult;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import io.quarkus.panache.common.Sort;
 import jakarta.enterprise.context.ApplicationScoped;
 
 import java.util.List;
 
 
 @ApplicationScoped
+@MeasuredRepository
 public class AddressRepository implements PanacheRepository<Address> {
 
+    public static final String ADDRESS_CACHE = "customer-addresses";
 
+    /**
+     * Cached per customer in {@value #ADDRESS_CACHE}; addresses are only written by the bulk import, which
+     * invalidates the whole cache.
+     */
+    @CacheResult(cacheName = ADDRESS_CACHE)
     public List<DbAddress> findAllByCustomerId(int customerId) {
-        return list("customer.id", customerId)
+        return list("customer.id", Sort.by("addressId"), customerId)
                 .stream()
                 .map(address ->
                         new DbAddress(address.getStreet(), address.getCity(), address.getCountry())
@@ -0,0 +1,212 @@
+package backend_jooq.repositories;
+
+import backend_jooq.db.dtos.DbCustomerImport;
+import backend_jooq.db.dtos.DbImportResult;
+import backend_jooq.metrics.MeasuredRepository;
+import backend_jooq.repositories.TableVersions.Table;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import jakarta.transaction.Transactional;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+
+/**
+ * Bulk customer import: rows are streamed into the unlogged {@code customer_import} staging table with
+ * COPY and then merged into {@code customer}/{@code address} by one set-based statement. Entities are not
+ * involved, so the work runs on the session's JDBC connection.
+ */
+@ApplicationScoped
+@MeasuredRepository
+public class CustomerImportRepository {
+
+    static final int MAX_REPORTED_REJECTIONS = 1000;
+
+    private static final String COPY_COLUMNS = "customer_import (first_name, last_name, email, street, city, country)";
+    private static final String COPY_CSV_WITH_HEADER = "COPY " + COPY_COLUMNS + " FROM STDIN WITH (FORMAT csv, HEADER true)";
+    private static final String COPY_CSV = "COPY " + COPY_COLUMNS + " FROM STDIN WITH (FORMAT csv)";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    // Inserts the first valid row per email, skips emails that already exist, adds the addresses of the
+    // inserted customers, empties this import's staging rows and returns the rejected lines.
+    private static final String MERGE = """
+            WITH batch AS (
+                SELECT row_number() OVER (ORDER BY line_no) AS line, first_name, last_name, email, street, city, country,
+                       coalesce(length(btrim(first_name)) BETWEEN 1 AND 100
+                                AND length(btrim(last_name)) BETWEEN 1 AND 100
+                                AND length(email) <= 255
+                                AND email ~ '^[^@\\s]+@[^@\\s]+$', false) AS is_valid
+                FROM customer_import
+                WHERE import_id = txid_current()
+            ), candidate AS (
+                SELECT DISTINCT ON (email) line, first_name, last_name, email, street, city, country
+                FROM batch
+                WHERE is_valid
+                ORDER BY email, line
+            ), inserted AS (
+                INSERT INTO customer (first_name, last_name, email)
+                SELECT first_name, last_name, email FROM candidate ORDER BY line
+                ON CONFLICT (email) DO NOTHING
+                RETURNING customer_id, email
+            ), addresses AS (
+                INSERT INTO address (customer_id, street, city, country)
+                SELECT i.customer_id, c.street, c.city, c.country
+                FROM inserted i
+                JOIN candidate c ON c.email = i.email
+                WHERE length(c.street) BETWEEN 1 AND 255
+                  AND length(c.city) BETWEEN 1 AND 100
+                  AND length(c.country) BETWEEN 1 AND 100
+            ), cleanup AS (
+                DELETE FROM customer_import WHERE import_id = txid_current()
+            )
+            SELECT b.line,
+                   b.email,
+                   CASE WHEN NOT b.is_valid THEN 'invalid'
+                        WHEN c.line IS NULL THEN 'duplicate email in import'
+                        ELSE 'email already exists' END AS reason,
+                   count(*) OVER () AS rejected_total
+            FROM batch b
+            LEFT JOIN candidate c ON c.line = b.line
+            WHERE c.line IS NULL OR NOT EXISTS (SELECT 1 FROM inserted i WHERE i.email = c.email)
+            ORDER BY b.line
+            LIMIT\s""" + MAX_REPORTED_REJECTIONS;
+
+    private final EntityManager em;
+    private final TransactionSynchronizationRegistry transactions;
+    private final Cache addressCache;
+    private final TableVersions versions;
+
+    public CustomerImportRepository(EntityManager em, TransactionSynchronizationRegistry transactions,
+                                    @CacheName(AddressRepository.ADDRESS_CACHE) Cache addressCache, TableVersions versions) {
+        this.em = em;
+        this.transactions = transactions;
+        this.addressCache = addressCache;
+        this.versions = versions;
+    }
+
+    /**
+     * Imports a CSV document with the header {@code first_name,last_name,email,street,city,country}.
+     */
+    @Transactional
+    public DbImportResult importCsv(InputStream csv) {
+        imported();
+        return em.unwrap(Session.class).doReturningWork(connection -> {
+            long received;
+            try {
+                received = copyManager(connection).copyIn(COPY_CSV_WITH_HEADER, csv);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (SQLException e) {
+                throw malformedOr(e);
+            }
+            return merge(connection, received);
+        });
+    }
+
+    @Transactional
+    public DbImportResult importRows(Iterator<DbCustomerImport> rows) {
+        imported();
+        return em.unwrap(Session.class).doReturningWork(connection -> {
+            long received;
+            CopyIn copyIn = copyManager(connection).copyIn(COPY_CSV);
+            try {
+                var buffer = new StringBuilder(COPY_BUFFER_SIZE);
+                while (rows.hasNext()) {
+                    appendCsvLine(buffer, rows.next());
+                    if (buffer.length() >= COPY_BUFFER_SIZE) {
+                        writeToCopy(copyIn, buffer);
+                    }
+                }
+                writeToCopy(copyIn, buffer);
+                received = copyIn.endCopy();
+            } catch (SQLException e) {
+                throw malformedOr(e);
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+            return merge(connection, received);
+        });
+    }
+
+    // evicted after the commit, so a concurrent read cannot cache the addresses from before it again
+    private void imported() {
+        transactions.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    addressCache.invalidateAll().await().indefinitely();
+                }
+            }
+        });
+        versions.bumpOnCommit(Table.CUSTOMER, Table.ADDRESS);
+    }
+
+    private static DbImportResult merge(Connection connection, long received) throws SQLException {
+        var rejectedRows = new ArrayList<DbImportResult.DbRejectedRow>();
+        long rejected = 0;
+        try (var statement = connection.createStatement(); var rs = statement.executeQuery(MERGE)) {
+            while (rs.next()) {
+                rejected = rs.getLong("rejected_total");
+                rejectedRows.add(new DbImportResult.DbRejectedRow(rs.getLong("line"), rs.getString("email"), rs.getString("reason")));
+            }
+        }
+        return new DbImportResult(received, received - rejected, rejected, rejectedRows);
+    }
+
+    private static CopyManager copyManager(Connection connection) throws SQLException {
+        return connection.unwrap(PGConnection.class).getCopyAPI();
+    }
+
+    private static void writeToCopy(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private static void appendCsvLine(StringBuilder buffer, DbCustomerImport row) {
+        appendCsvValue(buffer, row.firstName()).append(',');
+        appendCsvValue(buffer, row.lastName()).append(',');
+        appendCsvValue(buffer, row.email()).append(',');
+        appendCsvValue(buffer, row.street()).append(',');
+        appendCsvValue(buffer, row.city()).append(',');
+        appendCsvValue(buffer, row.country()).append('\n');
+    }
+
+    // an unquoted empty value is NULL for COPY, everything else is quoted
+    private static StringBuilder appendCsvValue(StringBuilder buffer, String value) {
+        if (value == null) {
+            return buffer;
+        }
+        return buffer.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    // SQLSTATE class 22 (data exception, e.g. an unterminated quote or a missing column) means the input was
+    // unusable; anything else is a database problem and is passed on unchanged
+    private static SQLException malformedOr(SQLException e) {
+        if (e.getSQLState() != null && e.getSQLState().startsWith("22")) {
+            throw new IllegalArgumentException("Malformed import data: " + e.getMessage(), e);
+        }
+        return e;
+    }
+}
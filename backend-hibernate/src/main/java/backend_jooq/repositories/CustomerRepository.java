@@ -1,38 +1,95 @@
 package backend_jooq.repositories;
 
+import backend_jooq.db.dtos.DbAddress;
 import backend_jooq.db.dtos.DbCustomer;
+import backend_jooq.db.dtos.DbCustomerOverview;
+import backend_jooq.db.dtos.DbCustomerSummary;
+import backend_jooq.db.dtos.DbInvoiceItem;
+import backend_jooq.metrics.MeasuredRepository;
 import backend_jooq.model.Customer;
+import backend_jooq.repositories.TableVersions.Table;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @ApplicationScoped
+@MeasuredRepository
 public class CustomerRepository {
 
     private final EntityManager em;
+    private final TableVersions versions;
 
-    public CustomerRepository(EntityManager em) {
+    public CustomerRepository(EntityManager em, TableVersions versions) {
         this.em = em;
+        this.versions = versions;
     }
 
-    public List<DbCustomer> findAll() {
+    public List<DbCustomer> findPage(int afterCustomerId, int limit) {
         var cb = em.getCriteriaBuilder();
         var cq = cb.createQuery(Customer.class);
         var root = cq.from(Customer.class);
-        cq.select(root);
-        List<Customer> results = em.createQuery(cq).getResultList();
+        cq.select(root)
+                .where(cb.greaterThan(root.get("customerId"), afterCustomerId))
+                .orderBy(cb.asc(root.get("customerId")));
+        List<Customer> results = em.createQuery(cq).setMaxResults(limit).getResultList();
         return results.stream()
                 .map(c -> new DbCustomer(c.getCustomerId(), c.getFirstName(), c.getLastName(), c.getEmail()))
                 .toList();
     }
 
+    /**
+     * Loads the customer through the {@link Customer#OVERVIEW_GRAPH} entity graph: addresses, invoices, items
+     * and products are join fetched in one statement, at the cost of one row per address and item combination.
+     * Returns {@code null} if there is no such customer.
+     */
+    public DbCustomerOverview findOverview(int customerId) {
+        var graph = em.getEntityGraph(Customer.OVERVIEW_GRAPH);
+        Customer c = em.find(Customer.class, customerId, Map.of("jakarta.persistence.fetchgraph", graph));
+        if (c == null) {
+            return null;
+        }
+        return new DbCustomerOverview(
+                new DbCustomer(c.getCustomerId(), c.getFirstName(), c.getLastName(), c.getEmail()),
+                c.getAddresses().stream()
+                        .map(a -> new DbAddress(a.getStreet(), a.getCity(), a.getCountry()))
+                        .toList(),
+                c.getInvoices().stream()
+                        .map(i -> new DbCustomerOverview.DbInvoiceOverview(i.getInvoiceId(), i.getInvoiceDate(), i.getTotalAmountCents(),
+                                i.getItems().stream()
+                                        .map(it -> new DbInvoiceItem(it.getQuantity(), it.getUnitPriceCents(), it.getProduct().getProductName(), it.getProduct().getPriceCents()))
+                                        .toList()))
+                        .toList());
+    }
+
+    /**
+     * Invoice count, revenue and last invoice date from {@link backend_jooq.model.CustomerSummary}, which
+     * {@code createInvoice} keeps up to date, so this is a primary key lookup however many invoices there are.
+     * Returns {@code null} if there is no such customer.
+     */
+    public DbCustomerSummary findSummary(int customerId) {
+        // customers without invoices have no summary row yet
+        List<DbCustomerSummary> result = em.createQuery("""
+                        select new backend_jooq.db.dtos.DbCustomerSummary(c.customerId, s.invoiceCount, coalesce(s.totalRevenueCents, 0L), s.lastInvoiceDate)
+                        from Customer c left join CustomerSummary s on s.customerId = c.customerId
+                        where c.customerId = :customerId""", DbCustomerSummary.class)
+                .setParameter("customerId", customerId)
+                .getResultList();
+        if (result.isEmpty()) {
+            return null;
+        }
+        var summary = result.get(0);
+        return summary.invoiceCount() != null ? summary : new DbCustomerSummary(customerId, 0, 0, null);
+    }
+
     @Transactional
     public DbCustomer create(String firstName, String lastName, String email) {
         Customer c = new Customer(firstName, lastName, email);
         em.persist(c);
         em.flush();
+        versions.bumpOnCommit(Table.CUSTOMER);
         return new DbCustomer(c.getCustomerId(), c.getFirstName(), c.getLastName(), c.getEmail());
     }
 }
@@ -0,0 +1,208 @@
+package backend_jooq.repositories;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group commit for {@code POST /customer} and {@code POST /invoice}, enabled with {@code group-commit.enabled=true}.
+ * Callers put their write into a bounded queue and wait; a single writer thread takes up to
+ * {@code group-commit.max-batch-size} writes, or whatever arrived within {@code group-commit.max-delay} of the first,
+ * and runs them in one transaction, so the whole batch costs one commit and one WAL flush. The writes are the
+ * {@code @Transactional} repository methods, which join that transaction. If it fails, the writes of the batch are
+ * retried one transaction each, so one bad write (a duplicate email, an unknown customer) only fails its own caller.
+ * <p>
+ * A full queue is backpressure: {@link #submit} waits up to {@code group-commit.enqueue-timeout} for room and then
+ * throws {@link RejectedExecutionException}.
+ */
+@ApplicationScoped
+public class GroupCommitWriter {
+
+    /**
+     * One caller's write. It runs in the transaction shared with the rest of the batch and may run a second time on its
+     * own if that one rolls back; work after the commit belongs in a transaction synchronization.
+     */
+    @FunctionalInterface
+    public interface Write<T> {
+        T execute();
+    }
+
+    private static final class Pending<T> {
+        final Write<T> write;
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        T result;
+
+        Pending(Write<T> write) {
+            this.write = write;
+        }
+
+        void execute() {
+            result = write.execute();
+        }
+
+        void complete() {
+            future.complete(result);
+        }
+    }
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final Duration maxDelay;
+    private final Duration enqueueTimeout;
+    private final BlockingQueue<Pending<?>> queue;
+    private final DistributionSummary batchSizes;
+    private volatile boolean closed;
+    private Thread writer;
+
+    public GroupCommitWriter(MeterRegistry registry,
+                             @ConfigProperty(name = "group-commit.enabled", defaultValue = "false") boolean enabled,
+                             @ConfigProperty(name = "group-commit.max-batch-size", defaultValue = "500") int maxBatchSize,
+                             @ConfigProperty(name = "group-commit.max-delay", defaultValue = "2ms") Duration maxDelay,
+                             @ConfigProperty(name = "group-commit.queue-capacity", defaultValue = "10000") int queueCapacity,
+                             @ConfigProperty(name = "group-commit.enqueue-timeout", defaultValue = "100ms") Duration enqueueTimeout) {
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay;
+        this.enqueueTimeout = enqueueTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSizes = DistributionSummary.builder("group.commit.batch.size")
+                .description("Writes committed together in one transaction")
+                .register(registry);
+        Gauge.builder("group.commit.queue.size", queue, BlockingQueue::size)
+                .description("Writes waiting for the group commit writer")
+                .register(registry);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (enabled) {
+            writer = Thread.ofPlatform().name("group-commit-writer").daemon().start(this::run);
+        }
+    }
+
+    /**
+     * Stops accepting writes, commits those already queued and stops the writer.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        closed = true;
+        if (writer != null) {
+            writer.join();
+        }
+        // queued by a submit() that raced with closing
+        List<Pending<?>> late = new ArrayList<>();
+        queue.drainTo(late);
+        late.forEach(pending -> pending.future.completeExceptionally(new RejectedExecutionException("Group commit writer stopped")));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues {@code write} and blocks until its batch has committed, returning what the write returned. Failures of the
+     * write are rethrown as they are.
+     *
+     * @throws RejectedExecutionException if the queue stays full for the enqueue timeout or the writer is stopping
+     */
+    public <T> T submit(Write<T> write) {
+        if (!enabled || closed) {
+            throw new RejectedExecutionException("Group commit writer is not running");
+        }
+        var pending = new Pending<>(write);
+        try {
+            if (!queue.offer(pending, enqueueTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new RejectedExecutionException("Group commit queue is full");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for room in the group commit queue", e);
+        }
+        try {
+            return pending.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void run() {
+        while (!closed || !queue.isEmpty()) {
+            try {
+                List<Pending<?>> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    commit(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private List<Pending<?>> nextBatch() throws InterruptedException {
+        List<Pending<?>> batch = new ArrayList<>(maxBatchSize);
+        // wakes up now and then to notice stop()
+        Pending<?> first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + maxDelay.toNanos();
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                break;
+            }
+            Pending<?> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void commit(List<Pending<?>> batch) {
+        batchSizes.record(batch.size());
+        try {
+            QuarkusTransaction.requiringNew().run(() -> batch.forEach(Pending::execute));
+        } catch (RuntimeException batchFailure) {
+            if (batch.size() == 1) {
+                batch.get(0).future.completeExceptionally(batchFailure);
+                return;
+            }
+            for (var pending : batch) {
+                try {
+                    QuarkusTransaction.requiringNew().run(pending::execute);
+                } catch (RuntimeException e) {
+                    pending.future.completeExceptionally(e);
+                    continue;
+                }
+                pending.complete();
+            }
+            return;
+        }
+        for (var pending : batch) {
+            pending.complete();
+        }
+    }
+}
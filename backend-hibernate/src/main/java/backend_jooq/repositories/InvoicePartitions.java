@@ -0,0 +1,28 @@
+package backend_jooq.repositories;
+
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+/**
+ * Creates the invoice partitions of the coming year on {@code invoice-partitions.cron}, as Flyway's afterMigrate
+ * callback does at startup, so a long running instance doesn't run out of them.
+ */
+@ApplicationScoped
+public class InvoicePartitions {
+
+    private final EntityManager em;
+
+    public InvoicePartitions(EntityManager em) {
+        this.em = em;
+    }
+
+    @Scheduled(cron = "{invoice-partitions.cron}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    @Transactional
+    void createYearAhead() {
+        // the function returns void, which has no Hibernate type
+        em.createNativeQuery("SELECT CAST(create_invoice_partitions(current_date, CAST(current_date + INTERVAL '12 months' AS DATE)) AS TEXT)")
+                .getResultList();
+    }
+}
@@ -3,69 +3,182 @@ package backend_jooq.repositories;
 import backend_jooq.api.dtos.ApiNewInvoice;
 import backend_jooq.db.dtos.DbInvoice;
 import backend_jooq.db.dtos.DbInvoiceItem;
+import backend_jooq.db.dtos.DbProductKey;
+import backend_jooq.metrics.MeasuredRepository;
+import backend_jooq.model.CentsConverter;
+import backend_jooq.model.CustomerSummary;
 import backend_jooq.model.Invoice;
 import backend_jooq.model.InvoiceItem;
 import backend_jooq.model.Product;
+import backend_jooq.repositories.TableVersions.Table;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
 import jakarta.transaction.Transactional;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.hibernate.query.NativeQuery;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @ApplicationScoped
+@MeasuredRepository
 public class InvoiceRepository {
 
+    public static final String INVOICE_CACHE = "customer-invoices";
+
+    private static final String ADD_TO_SUMMARY = """
+            INSERT INTO customer_summary AS s (customer_id, invoice_count, total_revenue, last_invoice_date)
+            VALUES (?1, 1, ?2, ?3)
+            ON CONFLICT (customer_id) DO UPDATE
+            SET invoice_count = s.invoice_count + 1,
+                total_revenue = s.total_revenue + EXCLUDED.total_revenue,
+                last_invoice_date = greatest(s.last_invoice_date, EXCLUDED.last_invoice_date)""";
+
     private final EntityManager em;
+    private final ProductRepository productRepository;
+    private final TransactionSynchronizationRegistry transactions;
+    private final Cache invoiceCache;
+    private final TableVersions versions;
 
-    public InvoiceRepository(EntityManager em) {
+    public InvoiceRepository(EntityManager em, ProductRepository productRepository, TransactionSynchronizationRegistry transactions,
+                             @CacheName(INVOICE_CACHE) Cache invoiceCache, TableVersions versions) {
         this.em = em;
+        this.productRepository = productRepository;
+        this.transactions = transactions;
+        this.invoiceCache = invoiceCache;
+        this.versions = versions;
     }
 
+    /**
+     * Cached per customer in {@value #INVOICE_CACHE}, {@link #createInvoice} evicts the customer's entry.
+     */
+    @CacheResult(cacheName = INVOICE_CACHE)
     public List<DbInvoice> findAllByCustomerId(int customerId) {
         var cb = em.getCriteriaBuilder();
         var cq = cb.createQuery(Invoice.class);
         var root = cq.from(Invoice.class);
-        cq.select(root).where(cb.equal(root.get("customer").get("customerId"), customerId));
+        cq.select(root).where(cb.equal(root.get("customer").get("customerId"), customerId)).orderBy(cb.asc(root.get("invoiceId")));
+        List<Invoice> results = em.createQuery(cq).getResultList();
+        return results.stream()
+                .map(i -> new DbInvoice(i.getInvoiceId(), i.getInvoiceDate(), i.getTotalAmountCents()))
+                .toList();
+    }
+
+    /**
+     * The customer's invoices dated within {@code from} and {@code to}, both inclusive and optional. The bounds on the
+     * partition key let PostgreSQL skip the monthly partitions outside the range. Not cached.
+     */
+    public List<DbInvoice> findAllByCustomerIdBetween(int customerId, LocalDate from, LocalDate to) {
+        var cb = em.getCriteriaBuilder();
+        var cq = cb.createQuery(Invoice.class);
+        var root = cq.from(Invoice.class);
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("customer").get("customerId"), customerId));
+        if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("invoiceDate"), from));
+        }
+        if (to != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get("invoiceDate"), to));
+        }
+        cq.select(root).where(predicates.toArray(Predicate[]::new)).orderBy(cb.asc(root.get("invoiceId")));
         List<Invoice> results = em.createQuery(cq).getResultList();
         return results.stream()
-                .map(i -> new DbInvoice(i.getInvoiceId(), i.getInvoiceDate(), i.getTotalAmount()))
+                .map(i -> new DbInvoice(i.getInvoiceId(), i.getInvoiceDate(), i.getTotalAmountCents()))
                 .toList();
     }
 
+    /**
+     * The invoice's lines. Matching the invoice's date as well lets PostgreSQL prune all {@code invoice_item}
+     * partitions but the invoice's month when it runs the query; without it, every monthly partition is read. The
+     * date subquery itself still probes the primary key of every {@code invoice} partition, as only the id is known.
+     */
     public List<DbInvoiceItem> findItemsByInvoiceId(int invoiceId) {
         var cb = em.getCriteriaBuilder();
         var cq = cb.createQuery(InvoiceItem.class);
         var root = cq.from(InvoiceItem.class);
-        cq.select(root).where(cb.equal(root.get("invoice").get("invoiceId"), invoiceId));
+        var invoiceDate = cq.subquery(LocalDate.class);
+        var invoice = invoiceDate.from(Invoice.class);
+        invoiceDate.select(invoice.get("invoiceDate")).where(cb.equal(invoice.get("invoiceId"), invoiceId));
+        cq.select(root)
+                .where(cb.equal(root.get("invoice").get("invoiceId"), invoiceId), cb.equal(root.get("invoiceDate"), invoiceDate))
+                .orderBy(cb.asc(root.get("invoiceItemId")));
         List<InvoiceItem> results = em.createQuery(cq).getResultList();
         return results.stream()
-                .map(it -> new DbInvoiceItem(it.getQuantity(), it.getUnitPrice(), it.getProduct().getProductName(), it.getProduct().getPrice()))
+                .map(it -> new DbInvoiceItem(it.getQuantity(), it.getUnitPriceCents(), it.getProduct().getProductName(), it.getProduct().getPriceCents()))
                 .toList();
     }
 
     @Transactional
     public Integer createInvoice(ApiNewInvoice newInvoice) {
-        var customer = em.find(backend_jooq.model.Customer.class, newInvoice.customerId());
+        // only the foreign key is needed, so skip loading the customer row
+        var customer = em.getReference(backend_jooq.model.Customer.class, newInvoice.customerId());
         var date = LocalDate.ofInstant(newInvoice.timestamp(), ZoneOffset.UTC);
 
-        BigDecimal total = newInvoice.invoiceItemList().stream()
-                .map(i -> BigDecimal.valueOf(i.price()).multiply(BigDecimal.valueOf(i.quantity())))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        long total = totalCents(newInvoice.invoiceItemList());
+
+        // a product may appear only once per invoice (uq_invoice_product), so lines for the same product are merged
+        Map<DbProductKey, Integer> quantities = new LinkedHashMap<>();
+        for (var item : newInvoice.invoiceItemList()) {
+            quantities.merge(ProductRepository.key(item.productName(), item.priceCents()), item.quantity(), Integer::sum);
+        }
+        // resolved before anything is persisted, so the native upsert does not force an early flush
+        Map<DbProductKey, Integer> productIds = productRepository.resolveIds(quantities.keySet());
 
         var invoice = new Invoice(customer, date, total);
+        // ids come from pooled sequences, so nothing is written until commit and the inserts are batched
         em.persist(invoice);
-        em.flush();
 
-        for (var item : newInvoice.invoiceItemList()) {
-            var product = new Product(item.productName(), BigDecimal.valueOf(item.price()));
-            em.persist(product);
-            var invItem = new InvoiceItem(invoice, product, item.quantity(), BigDecimal.valueOf(item.price()));
-            em.persist(invItem);
-        }
+        // one upsert per invoice; concurrent invoices of the same customer queue up on its summary row until
+        // commit. Only synchronized with CustomerSummary, so the pending inserts are not flushed early.
+        em.createNativeQuery(ADD_TO_SUMMARY)
+                .setParameter(1, newInvoice.customerId())
+                // native, so without the entity's CentsConverter
+                .setParameter(2, CentsConverter.amount(total))
+                .setParameter(3, date)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(CustomerSummary.class)
+                .executeUpdate();
 
+        quantities.forEach((key, quantity) -> {
+            var product = em.getReference(Product.class, productIds.get(key));
+            em.persist(new InvoiceItem(invoice, product, quantity, key.priceCents()));
+        });
+
+        // evicted after the commit, so a concurrent read cannot cache the list without the new invoice again
+        transactions.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    invoiceCache.invalidate(newInvoice.customerId()).await().indefinitely();
+                }
+            }
+        });
+        versions.bumpOnCommit(Table.INVOICE);
         return invoice.getInvoiceId();
     }
+
+    /**
+     * Sum of price times quantity over all lines, in cents; overflowing a {@code long} fails instead of wrapping.
+     */
+    public static long totalCents(List<ApiNewInvoice.ApiNewInvoiceItem> items) {
+        long total = 0;
+        for (var item : items) {
+            total = Math.addExact(total, Math.multiplyExact(item.priceCents(), item.quantity()));
+        }
+        return total;
+    }
 }
@@ -0,0 +1,124 @@
+package backend_jooq.repositories;
+
+import backend_jooq.db.dtos.DbProductKey;
+import backend_jooq.metrics.MeasuredRepository;
+import backend_jooq.model.CentsConverter;
+import backend_jooq.model.Product;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.hibernate.query.NativeQuery;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Products are unique by name and price. Ids are resolved through a bounded in-process cache
+ * ({@value #PRODUCT_ID_CACHE}) and a native {@code INSERT ... ON CONFLICT DO NOTHING RETURNING} for the
+ * misses, which JPA has no equivalent for.
+ */
+@ApplicationScoped
+@MeasuredRepository
+public class ProductRepository {
+
+    public static final String PRODUCT_ID_CACHE = "product-ids";
+
+    private final EntityManager em;
+    private final TransactionSynchronizationRegistry transactions;
+    private final CaffeineCache productIds;
+
+    public ProductRepository(EntityManager em, TransactionSynchronizationRegistry transactions, @CacheName(PRODUCT_ID_CACHE) Cache productIds) {
+        this.em = em;
+        this.transactions = transactions;
+        this.productIds = productIds.as(CaffeineCache.class);
+    }
+
+    public static DbProductKey key(String name, long priceCents) {
+        return new DbProductKey(name, priceCents);
+    }
+
+    /**
+     * Returns the id of every product, creating unknown ones in the current transaction. Resolved ids are
+     * cached once that transaction committed, so a rolled-back insert never leaves a dangling id behind.
+     */
+    public Map<DbProductKey, Integer> resolveIds(Collection<DbProductKey> keys) {
+        Map<DbProductKey, Integer> ids = new HashMap<>();
+        List<DbProductKey> misses = new ArrayList<>();
+        for (var key : keys) {
+            CompletableFuture<Integer> cached = productIds.getIfPresent(key);
+            if (cached != null) {
+                ids.put(key, cached.join());
+            } else {
+                misses.add(key);
+            }
+        }
+        if (misses.isEmpty()) {
+            return ids;
+        }
+
+        // sorted so concurrent writers take the unique index locks in the same order
+        misses.sort(Comparator.comparing(DbProductKey::name).thenComparingLong(DbProductKey::priceCents));
+        putAll(ids, nativeQuery("INSERT INTO product (product_name, price) VALUES " + rows(misses.size())
+                + " ON CONFLICT DO NOTHING RETURNING product_id, product_name, price", misses));
+
+        // ON CONFLICT DO NOTHING returns nothing for products that already existed
+        var existing = misses.stream().filter(k -> !ids.containsKey(k)).toList();
+        if (!existing.isEmpty()) {
+            putAll(ids, nativeQuery("SELECT product_id, product_name, price FROM product WHERE (product_name, price) IN ("
+                    + rows(existing.size()) + ")", existing));
+        }
+
+        var resolved = Map.copyOf(ids);
+        transactions.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    resolved.forEach((key, id) -> productIds.put(key, CompletableFuture.completedFuture(id)));
+                }
+            }
+        });
+        return ids;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> nativeQuery(String sql, List<DbProductKey> keys) {
+        var query = em.createNativeQuery(sql);
+        for (int i = 0; i < keys.size(); i++) {
+            query.setParameter(2 * i + 1, keys.get(i).name());
+            query.setParameter(2 * i + 2, CentsConverter.amount(keys.get(i).priceCents()));
+        }
+        // only touches product, so pending inserts of other entities are not flushed early
+        return query.unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Product.class)
+                .getResultList();
+    }
+
+    private static String rows(int count) {
+        var sql = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?").append(2 * i + 1).append(", ?").append(2 * i + 2).append(')');
+        }
+        return sql.toString();
+    }
+
+    private static void putAll(Map<DbProductKey, Integer> ids, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            ids.put(new DbProductKey((String) row[1], CentsConverter.cents((BigDecimal) row[2])), ((Number) row[0]).intValue());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package backend_jooq.repositories;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Change counters per table, bumped by the repositories after every committed write, for ETags that can be checked
+ * without a query. The counters live in this process only: they start over on every start, which the random epoch
+ * in {@link #version} accounts for, and writes that bypass this application (another instance, {@code psql}) go
+ * unnoticed.
+ */
+@ApplicationScoped
+public class TableVersions {
+
+    public enum Table {
+        CUSTOMER, ADDRESS, INVOICE
+    }
+
+    private final TransactionSynchronizationRegistry transactions;
+    private final String epoch = Integer.toHexString(ThreadLocalRandom.current().nextInt());
+    private final Map<Table, AtomicLong> counters = new EnumMap<>(Table.class);
+
+    public TableVersions(TransactionSynchronizationRegistry transactions) {
+        this.transactions = transactions;
+        for (Table table : Table.values()) {
+            counters.put(table, new AtomicLong());
+        }
+    }
+
+    /**
+     * An opaque version of the given tables, which changes with every write to any of them. Read it before the
+     * query it describes, so a write racing with that query makes the version outdated rather than the data.
+     */
+    public String version(Table... tables) {
+        return Arrays.stream(tables)
+                .map(table -> Long.toString(counters.get(table).get()))
+                .collect(Collectors.joining(".", epoch + "-", ""));
+    }
+
+    /**
+     * Bumps {@code tables} once the current transaction has committed; a bump before the commit would let a
+     * concurrent read tag the old rows with the new version.
+     */
+    public void bumpOnCommit(Table... tables) {
+        transactions.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    for (Table table : tables) {
+                        counters.get(table).incrementAndGet();
+                    }
+                }
+            }
+        });
+    }
+}
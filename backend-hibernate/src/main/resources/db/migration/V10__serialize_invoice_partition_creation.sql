@@ -0,0 +1,64 @@
+-- create_invoice_partitions as of V8 had two flaws:
+-- * It locked the default partitions first and then ran CREATE TABLE ... PARTITION OF, which locks the parent
+--   tables. Inserts lock the parents first and the partitions second, so each side could hold what the other one
+--   waited for, and PostgreSQL aborted one of them as deadlocked.
+-- * Its check for an existing partition ran before any lock. The daily InvoicePartitions job of every running backend
+--   and the afterMigrate callback could all find a month missing and all create it, and all but the first failed
+--   with "relation already exists".
+-- Now a caller first takes a transaction-scoped advisory lock, so callers create partitions one at a time. Then it
+-- locks the parents and after them the default partitions, the order inserts use, and checks for the month again
+-- under those locks before creating it.
+CREATE OR REPLACE FUNCTION create_invoice_partitions(from_month DATE, to_month DATE) RETURNS VOID
+LANGUAGE plpgsql AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month);
+    next_month DATE;
+    suffix TEXT;
+    moved_invoices BIGINT;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('create_invoice_partitions'));
+    WHILE month_start <= to_month LOOP
+        next_month := month_start + INTERVAL '1 month';
+        suffix := to_char(month_start, '"y"YYYY"m"MM');
+        IF to_regclass('invoice_' || suffix) IS NULL THEN
+            -- held until commit: CREATE TABLE ... PARTITION OF needs the parents exclusively anyway, and writes to the
+            -- default partitions wait until the month is moved and its partitions exist
+            LOCK TABLE ONLY invoice, ONLY invoice_item IN ACCESS EXCLUSIVE MODE;
+            LOCK TABLE invoice_default, invoice_item_default IN EXCLUSIVE MODE;
+        END IF;
+        -- checked again under the locks, as someone may have created the month by hand meanwhile
+        IF to_regclass('invoice_' || suffix) IS NULL THEN
+            CREATE TEMP TABLE moved_invoice_item ON COMMIT DROP AS
+                WITH moved AS (DELETE FROM invoice_item_default
+                               WHERE invoice_date >= month_start AND invoice_date < next_month
+                               RETURNING *)
+                SELECT * FROM moved;
+            CREATE TEMP TABLE moved_invoice ON COMMIT DROP AS
+                WITH moved AS (DELETE FROM invoice_default
+                               WHERE invoice_date >= month_start AND invoice_date < next_month
+                               RETURNING *)
+                SELECT * FROM moved;
+
+            EXECUTE format('CREATE TABLE %I PARTITION OF invoice FOR VALUES FROM (%L) TO (%L)',
+                           'invoice_' || suffix, month_start, next_month);
+            EXECUTE format('CREATE TABLE %I PARTITION OF invoice_item FOR VALUES FROM (%L) TO (%L)',
+                           'invoice_item_' || suffix, month_start, next_month);
+
+            INSERT INTO invoice SELECT * FROM moved_invoice;
+            GET DIAGNOSTICS moved_invoices = ROW_COUNT;
+            INSERT INTO invoice_item SELECT * FROM moved_invoice_item;
+            IF moved_invoices > 0 THEN
+                RAISE NOTICE 'moved % invoices of % out of invoice_default', moved_invoices, to_char(month_start, 'YYYY-MM');
+            END IF;
+            DROP TABLE moved_invoice_item;
+            DROP TABLE moved_invoice;
+        END IF;
+        month_start := next_month;
+    END LOOP;
+END
+$$;
+
+-- V8 only caught up the months within a year of the migration; every month left in the default partition gets its
+-- partitions now
+SELECT create_invoice_partitions(month_start, month_start)
+FROM (SELECT DISTINCT date_trunc('month', invoice_date)::DATE AS month_start FROM invoice_default) stranded;
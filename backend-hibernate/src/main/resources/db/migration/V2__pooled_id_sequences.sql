@@ -0,0 +1,28 @@
+-- Pooled id sequences: each nextval() reserves a block of 50 ids, so Hibernate (pooled-lo optimizer)
+-- can assign ids without a round trip per row and batch its INSERTs. Inserts that omit the id, as
+-- backend-jooq issues them, keep working through the column defaults.
+
+CREATE SEQUENCE customer_seq INCREMENT BY 50;
+ALTER TABLE customer ALTER COLUMN customer_id DROP IDENTITY;
+ALTER TABLE customer ALTER COLUMN customer_id SET DEFAULT nextval('customer_seq');
+SELECT setval('customer_seq', COALESCE((SELECT MAX(customer_id) FROM customer), 0) + 1, false);
+
+CREATE SEQUENCE product_seq INCREMENT BY 50;
+ALTER TABLE product ALTER COLUMN product_id DROP IDENTITY;
+ALTER TABLE product ALTER COLUMN product_id SET DEFAULT nextval('product_seq');
+SELECT setval('product_seq', COALESCE((SELECT MAX(product_id) FROM product), 0) + 1, false);
+
+CREATE SEQUENCE address_seq INCREMENT BY 50;
+ALTER TABLE address ALTER COLUMN address_id DROP IDENTITY;
+ALTER TABLE address ALTER COLUMN address_id SET DEFAULT nextval('address_seq');
+SELECT setval('address_seq', COALESCE((SELECT MAX(address_id) FROM address), 0) + 1, false);
+
+CREATE SEQUENCE invoice_seq INCREMENT BY 50;
+ALTER TABLE invoice ALTER COLUMN invoice_id DROP IDENTITY;
+ALTER TABLE invoice ALTER COLUMN invoice_id SET DEFAULT nextval('invoice_seq');
+SELECT setval('invoice_seq', COALESCE((SELECT MAX(invoice_id) FROM invoice), 0) + 1, false);
+
+CREATE SEQUENCE invoice_item_seq INCREMENT BY 50;
+ALTER TABLE invoice_item ALTER COLUMN invoice_item_id DROP IDENTITY;
+ALTER TABLE invoice_item ALTER COLUMN invoice_item_id SET DEFAULT nextval('invoice_item_seq');
+SELECT setval('invoice_item_seq', COALESCE((SELECT MAX(invoice_item_id) FROM invoice_item), 0) + 1, false);
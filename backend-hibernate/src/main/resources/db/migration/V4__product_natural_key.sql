@@ -0,0 +1,34 @@
+-- Products used to be inserted once per invoice line. Collapse them onto one row per (product_name, price),
+-- keeping the lowest id, and make that pair the natural key so writers can upsert instead of insert.
+CREATE TEMP TABLE product_remap AS
+SELECT product_id, min(product_id) OVER (PARTITION BY product_name, price) AS canonical_id
+FROM product;
+
+-- lines of one invoice that end up on the same product are merged into the first one (uq_invoice_product)
+CREATE TEMP TABLE invoice_item_remap AS
+SELECT ii.invoice_item_id,
+       r.canonical_id,
+       row_number() OVER (PARTITION BY ii.invoice_id, r.canonical_id ORDER BY ii.invoice_item_id) AS rn,
+       sum(ii.quantity) OVER (PARTITION BY ii.invoice_id, r.canonical_id) AS quantity
+FROM invoice_item ii
+JOIN product_remap r ON r.product_id = ii.product_id;
+
+DELETE FROM invoice_item ii
+USING invoice_item_remap m
+WHERE ii.invoice_item_id = m.invoice_item_id AND m.rn > 1;
+
+UPDATE invoice_item ii
+SET product_id = m.canonical_id, quantity = m.quantity
+FROM invoice_item_remap m
+WHERE ii.invoice_item_id = m.invoice_item_id
+  AND m.rn = 1
+  AND (ii.product_id <> m.canonical_id OR ii.quantity <> m.quantity);
+
+DELETE FROM product p
+USING product_remap r
+WHERE p.product_id = r.product_id AND r.product_id <> r.canonical_id;
+
+DROP TABLE invoice_item_remap;
+DROP TABLE product_remap;
+
+ALTER TABLE product ADD CONSTRAINT uq_product_name_price UNIQUE (product_name, price);
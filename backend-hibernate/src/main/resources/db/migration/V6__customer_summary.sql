@@ -0,0 +1,17 @@
+-- Per-customer invoice aggregates, maintained by every invoice insert in the same transaction, so reading them is
+-- a primary key lookup instead of a GROUP BY over invoice. Customers without invoices have no row.
+CREATE TABLE customer_summary (
+    customer_id INTEGER PRIMARY KEY,
+    invoice_count INTEGER NOT NULL CHECK (invoice_count > 0),
+    total_revenue NUMERIC(16, 2) NOT NULL CHECK (total_revenue >= 0),
+    last_invoice_date DATE NOT NULL,
+    CONSTRAINT fk_customer_summary_customer
+        FOREIGN KEY (customer_id)
+        REFERENCES customer (customer_id)
+        ON DELETE CASCADE
+);
+
+INSERT INTO customer_summary (customer_id, invoice_count, total_revenue, last_invoice_date)
+SELECT customer_id, count(*), sum(total_amount), max(invoice_date)
+FROM invoice
+GROUP BY customer_id;
@@ -0,0 +1,54 @@
+-- create_invoice_partitions used to skip a month whose rows already sat in the default partition, e.g. because the
+-- application ran longer than the year of partitions created ahead, and that month then stayed in the default
+-- partition for good. Now it moves those rows into the month's new partitions: items and invoices are taken out of
+-- the default partitions, items first so the invoices' ON DELETE CASCADE has nothing to delete, the partitions are
+-- created and the rows inserted again through the parent tables.
+CREATE OR REPLACE FUNCTION create_invoice_partitions(from_month DATE, to_month DATE) RETURNS VOID
+LANGUAGE plpgsql AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month);
+    next_month DATE;
+    suffix TEXT;
+    moved_invoices BIGINT;
+BEGIN
+    WHILE month_start <= to_month LOOP
+        next_month := month_start + INTERVAL '1 month';
+        suffix := to_char(month_start, '"y"YYYY"m"MM');
+        IF to_regclass('invoice_' || suffix) IS NULL THEN
+            -- writes to the default partitions wait until the month is moved and its partitions exist
+            LOCK TABLE invoice_default, invoice_item_default IN EXCLUSIVE MODE;
+            CREATE TEMP TABLE moved_invoice_item ON COMMIT DROP AS
+                WITH moved AS (DELETE FROM invoice_item_default
+                               WHERE invoice_date >= month_start AND invoice_date < next_month
+                               RETURNING *)
+                SELECT * FROM moved;
+            CREATE TEMP TABLE moved_invoice ON COMMIT DROP AS
+                WITH moved AS (DELETE FROM invoice_default
+                               WHERE invoice_date >= month_start AND invoice_date < next_month
+                               RETURNING *)
+                SELECT * FROM moved;
+
+            EXECUTE format('CREATE TABLE %I PARTITION OF invoice FOR VALUES FROM (%L) TO (%L)',
+                           'invoice_' || suffix, month_start, next_month);
+            EXECUTE format('CREATE TABLE %I PARTITION OF invoice_item FOR VALUES FROM (%L) TO (%L)',
+                           'invoice_item_' || suffix, month_start, next_month);
+
+            INSERT INTO invoice SELECT * FROM moved_invoice;
+            GET DIAGNOSTICS moved_invoices = ROW_COUNT;
+            INSERT INTO invoice_item SELECT * FROM moved_invoice_item;
+            IF moved_invoices > 0 THEN
+                RAISE NOTICE 'moved % invoices of % out of invoice_default', moved_invoices, to_char(month_start, 'YYYY-MM');
+            END IF;
+            DROP TABLE moved_invoice_item;
+            DROP TABLE moved_invoice;
+        END IF;
+        month_start := next_month;
+    END LOOP;
+END
+$$;
+
+-- months the old function skipped, across the range it had been asked for
+SELECT create_invoice_partitions(month_start, month_start)
+FROM (SELECT DISTINCT date_trunc('month', invoice_date)::DATE AS month_start
+      FROM invoice_default
+      WHERE invoice_date BETWEEN current_date - INTERVAL '12 months' AND current_date + INTERVAL '12 months') skipped;
@@ -0,0 +1,126 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.api;
+
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.api.dtos.*;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.repositories.AddressRepository;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.repositories.CustomerRepository;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.repositories.InvoiceRepository;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.mapper.AddressMapper;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.mapper.CustomerMapper;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.mapper.InvoiceMapper;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriBuilder;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Same API as backend-jooq, but every endpoint returns a {@link Uni} or {@link Multi} and runs on the event
+ * loop; no worker thread is blocked while a query is in flight.
+ * <p>
+ * Responses are JSON unless the client prefers {@value SmileMessageBodyWriter#APPLICATION_SMILE}; the lower
+ * {@code qs} keeps JSON as the answer for {@code Accept: *}{@code /*}.
+ */
+@Path("/")
+@Produces({MediaType.APPLICATION_JSON, SmileMessageBodyWriter.APPLICATION_SMILE + ";qs=0.9"})
+@Consumes(MediaType.APPLICATION_JSON)
+public class MainResource {
+
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    static final int MAX_CUSTOMER_PAGE_SIZE = 1000;
+
+    private final CustomerRepository customerRepository;
+    private final AddressRepository addressRepository;
+    private final InvoiceRepository invoiceRepository;
+
+    public MainResource(CustomerRepository customerRepository, AddressRepository addressRepository, InvoiceRepository invoiceRepository) {
+        this.customerRepository = customerRepository;
+        this.addressRepository = addressRepository;
+        this.invoiceRepository = invoiceRepository;
+    }
+
+    /**
+     * Keyset-paginated customer list ordered by id. {@code after} is the last id of the previous page;
+     * a {@code Link: <...>; rel="next"} header is sent as long as the page is full.
+     */
+    @GET
+    @Path("/customer")
+    public Uni<Response> getCustomers(@QueryParam("after") @DefaultValue("0") int after,
+                                      @QueryParam("limit") @DefaultValue("100") @Min(1) int limit) {
+        int pageSize = Math.min(limit, MAX_CUSTOMER_PAGE_SIZE);
+        return customerRepository.findPage(after, pageSize).map(customers -> {
+            List<ApiCustomer> page = customers.stream().map(CustomerMapper::dbToApi).toList();
+            var response = Response.ok(page);
+            if (page.size() == pageSize) {
+                int nextCursor = page.get(page.size() - 1).id();
+                response.link(UriBuilder.fromPath("/customer")
+                        .queryParam("after", nextCursor)
+                        .queryParam("limit", pageSize)
+                        .build(), "next");
+            }
+            return response.build();
+        });
+    }
+
+    /**
+     * Full customer export as newline-delimited JSON, backed by a database cursor and driven by the
+     * client's demand. The lower {@code qs} keeps JSON as the answer for {@code Accept: *}{@code /*}.
+     */
+    @GET
+    @Path("/customer")
+    @Produces(APPLICATION_NDJSON + ";qs=0.5")
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    public Multi<ApiCustomer> streamAllCustomers() {
+        return customerRepository.streamAll().map(CustomerMapper::dbToApi);
+    }
+
+    @GET
+    @Path("/customer/{customerId}/addresses")
+    public Uni<List<ApiAddress>> getAllAddressesOfCustomer(@PathParam("customerId") int customerId) {
+        return addressRepository.findAllByCustomerId(customerId)
+                .map(addresses -> addresses.stream().map(AddressMapper::dbToApi).toList());
+    }
+
+    /**
+     * All invoices of the customer, or with {@code from} and/or {@code to} (ISO dates, inclusive) only those dated
+     * within that range, which reads only the matching monthly partitions.
+     */
+    @GET
+    @Path("/customer/{customerId}/invoices")
+    public Uni<List<ApiInvoice>> getAllInvoicesOfCustomer(@PathParam("customerId") int customerId,
+                                                          @QueryParam("from") LocalDate from,
+                                                          @QueryParam("to") LocalDate to) {
+        return invoiceRepository.findAllByCustomerId(customerId, from, to)
+                .map(invoices -> invoices.stream().map(InvoiceMapper::dbToApi).toList());
+    }
+
+    @GET
+    @Path("/invoice/{invoiceId}")
+    public Uni<ApiInvoiceDetail> getInvoiceDetail(@PathParam("invoiceId") int invoiceId) {
+        return invoiceRepository.findItemsByInvoiceId(invoiceId).map(InvoiceMapper::itemsToApiDetail);
+    }
+
+    @POST
+    @Path("/customer")
+    public Uni<Response> createCustomer(@Valid ApiNewCustomer newCustomer) {
+        return customerRepository.create(newCustomer.firstName(), newCustomer.lastName(), newCustomer.email())
+                .map(db -> {
+                    ApiCustomer api = CustomerMapper.dbToApi(db);
+                    return Response.created(java.net.URI.create("/customer/" + api.id())).entity(api).build();
+                });
+    }
+
+    @POST
+    @Path("/invoice")
+    public Uni<Response> createInvoice(@Valid ApiNewInvoice newInvoice) {
+        return invoiceRepository.createInvoice(newInvoice)
+                .map(id -> Response.created(java.net.URI.create("/invoice/" + id)).build());
+    }
+}
@@ -0,0 +1,5 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.api.dtos;
+
+public record ApiCustomer(Integer id, String firstName, String lastName, String email) {
+}
+
@@ -0,0 +1,7 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.api.dtos;
+
+import java.time.Instant;
+
+public record ApiInvoice(int id, Instant timestamp, long totalAmountCents) {
+}
+
@@ -0,0 +1,8 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.api.dtos;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+
+public record ApiNewCustomer(@NotBlank String firstName, @NotBlank String lastName, @Email String email) {
+}
+
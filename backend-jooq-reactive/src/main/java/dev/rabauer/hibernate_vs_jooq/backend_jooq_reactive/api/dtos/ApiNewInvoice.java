@@ -0,0 +1,28 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.api.dtos;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.time.Instant;
+import java.util.List;
+
+public record ApiNewInvoice(
+        @NotNull
+        int customerId,
+        @NotNull
+        Instant timestamp,
+        @NotEmpty
+        List<ApiNewInvoiceItem> invoiceItemList
+) {
+    public record ApiNewInvoiceItem(
+            @NotBlank
+            String productName,
+            @PositiveOrZero
+            long priceCents,
+            @NotNull
+            int quantity
+    ) {
+    }
+}
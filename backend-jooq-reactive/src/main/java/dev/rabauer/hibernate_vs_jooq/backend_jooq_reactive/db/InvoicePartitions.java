@@ -0,0 +1,27 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db;
+
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Creates the invoice partitions of the coming year on {@code invoice-partitions.cron}, as Flyway's afterMigrate
+ * callback does at startup, so a long running instance doesn't run out of them.
+ */
+@ApplicationScoped
+public class InvoicePartitions {
+
+    private final Pool pool;
+
+    public InvoicePartitions(Pool pool) {
+        this.pool = pool;
+    }
+
+    @Scheduled(cron = "{invoice-partitions.cron}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> createYearAhead() {
+        return pool.query("SELECT create_invoice_partitions(current_date, (current_date + INTERVAL '12 months')::DATE)")
+                .execute()
+                .replaceWithVoid();
+    }
+}
@@ -0,0 +1,77 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.SqlClient;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jooq.DSLContext;
+import org.jooq.Param;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.conf.ParamType;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Bridge between jOOQ and the Vert.x PostgreSQL client. The {@link DSLContext} has no connection and only
+ * renders SQL, with {@code $1, $2, ...} placeholders as the PostgreSQL wire protocol expects; the statements
+ * and their bind values are executed as prepared queries on a {@link SqlClient}.
+ */
+@ApplicationScoped
+public class ReactiveJooq {
+
+    private final DSLContext dsl = DSL.using(SQLDialect.POSTGRES, new Settings()
+            .withParamType(ParamType.NAMED)
+            .withRenderNamedParamPrefix("$"));
+
+    public DSLContext dsl() {
+        return dsl;
+    }
+
+    public String sql(Query query) {
+        return query.getSQL();
+    }
+
+    public Uni<RowSet<Row>> execute(SqlClient client, Query query) {
+        return client.preparedQuery(query.getSQL()).execute(bindValues(query));
+    }
+
+    public <T> Uni<List<T>> fetch(SqlClient client, Query query, Function<Row, T> mapper) {
+        return execute(client, query).map(rows -> {
+            List<T> result = new ArrayList<>(rows.size());
+            for (Row row : rows) {
+                result.add(mapper.apply(row));
+            }
+            return result;
+        });
+    }
+
+    // Query.getBindValues() has the values as the user types of their fields, e.g. cents; the columns take them as
+    // converted back by the fields' converters (CentsConverter)
+    private static Tuple bindValues(Query query) {
+        List<Object> values = new ArrayList<>();
+        for (Param<?> param : query.getParams().values()) {
+            if (!param.isInline()) {
+                values.add(databaseValue(param));
+            }
+        }
+        return Tuple.from(values);
+    }
+
+    private static <T> Object databaseValue(Param<T> param) {
+        return param.getConverter().to(param.getValue());
+    }
+
+    public <T> Uni<T> fetchOne(SqlClient client, Query query, Function<Row, T> mapper) {
+        return execute(client, query).map(rows -> {
+            var iterator = rows.iterator();
+            return iterator.hasNext() ? mapper.apply(iterator.next()) : null;
+        });
+    }
+}
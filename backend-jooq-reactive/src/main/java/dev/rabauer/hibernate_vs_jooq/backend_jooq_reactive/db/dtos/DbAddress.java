@@ -0,0 +1,4 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.dtos;
+
+public record DbAddress(String street, String city, String country) {
+}
@@ -0,0 +1,6 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.dtos;
+
+public record DbCustomer(
+        Integer customerId, String firstName, String lastName, String email
+) {
+}
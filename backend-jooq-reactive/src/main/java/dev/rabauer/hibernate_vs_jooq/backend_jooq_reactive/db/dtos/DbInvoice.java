@@ -0,0 +1,6 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.dtos;
+
+import java.time.LocalDate;
+
+public record DbInvoice(Integer invoiceId, LocalDate invoiceDate, long totalAmountCents) {
+}
@@ -0,0 +1,4 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.dtos;
+
+public record DbInvoiceItem(int quantity, long unitPriceCents, String productName, long productPriceCents) {
+}
@@ -0,0 +1,35 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.repositories;
+
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.ReactiveJooq;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.dtos.DbAddress;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.List;
+
+import static dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.generated.tables.Address.ADDRESS;
+
+@ApplicationScoped
+public class AddressRepository {
+
+    private final Pool pool;
+    private final ReactiveJooq jooq;
+
+    public AddressRepository(Pool pool, ReactiveJooq jooq) {
+        this.pool = pool;
+        this.jooq = jooq;
+    }
+
+    public Uni<List<DbAddress>> findAllByCustomerId(int customerId) {
+        return jooq.fetch(pool, jooq.dsl().select(ADDRESS.STREET, ADDRESS.CITY, ADDRESS.COUNTRY)
+                        .from(ADDRESS)
+                        .where(ADDRESS.CUSTOMER_ID.eq(customerId))
+                        .orderBy(ADDRESS.ADDRESS_ID),
+                row -> new DbAddress(
+                        row.getString(ADDRESS.STREET.getName()),
+                        row.getString(ADDRESS.CITY.getName()),
+                        row.getString(ADDRESS.COUNTRY.getName())
+                ));
+    }
+}
@@ -0,0 +1,68 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.repositories;
+
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.ReactiveJooq;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.dtos.DbCustomer;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.List;
+
+import static dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.generated.tables.Customer.CUSTOMER;
+
+@ApplicationScoped
+public class CustomerRepository {
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private final Pool pool;
+    private final ReactiveJooq jooq;
+
+    public CustomerRepository(Pool pool, ReactiveJooq jooq) {
+        this.pool = pool;
+        this.jooq = jooq;
+    }
+
+    public Uni<List<DbCustomer>> findPage(int afterCustomerId, int limit) {
+        return jooq.fetch(pool, jooq.dsl().selectFrom(CUSTOMER)
+                .where(CUSTOMER.CUSTOMER_ID.gt(afterCustomerId))
+                .orderBy(CUSTOMER.CUSTOMER_ID)
+                .limit(limit), CustomerRepository::toDbCustomer);
+    }
+
+    /**
+     * Walks the whole customer table through a cursor, {@value #STREAM_FETCH_SIZE} rows per round trip and
+     * only as fast as the subscriber requests. Cursors need a transaction; it is read-only, so it is rolled
+     * back when the stream completes or is cancelled.
+     */
+    public Multi<DbCustomer> streamAll() {
+        String sql = jooq.sql(jooq.dsl().selectFrom(CUSTOMER).orderBy(CUSTOMER.CUSTOMER_ID));
+        return Multi.createFrom().uni(pool.getConnection())
+                .onItem().transformToMultiAndConcatenate(connection -> connection.begin()
+                        .onItem().transformToMulti(transaction -> connection.prepare(sql)
+                                .onItem().transformToMulti(statement -> statement.createStream(STREAM_FETCH_SIZE).toMulti())
+                                .onTermination().call(transaction::rollback))
+                        .onTermination().call(connection::close))
+                .map(CustomerRepository::toDbCustomer);
+    }
+
+    public Uni<DbCustomer> create(String firstName, String lastName, String email) {
+        return jooq.fetchOne(pool, jooq.dsl().insertInto(CUSTOMER)
+                        .set(CUSTOMER.FIRST_NAME, firstName)
+                        .set(CUSTOMER.LAST_NAME, lastName)
+                        .set(CUSTOMER.EMAIL, email)
+                        .returning(CUSTOMER.CUSTOMER_ID),
+                row -> new DbCustomer(row.getInteger(CUSTOMER.CUSTOMER_ID.getName()), firstName, lastName, email));
+    }
+
+    private static DbCustomer toDbCustomer(Row row) {
+        return new DbCustomer(
+                row.getInteger(CUSTOMER.CUSTOMER_ID.getName()),
+                row.getString(CUSTOMER.FIRST_NAME.getName()),
+                row.getString(CUSTOMER.LAST_NAME.getName()),
+                row.getString(CUSTOMER.EMAIL.getName())
+        );
+    }
+}
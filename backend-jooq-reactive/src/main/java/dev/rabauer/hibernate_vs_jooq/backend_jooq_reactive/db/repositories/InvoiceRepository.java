@@ -0,0 +1,149 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.repositories;
+
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.api.dtos.ApiNewInvoice;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.CentsConverter;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.ReactiveJooq;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.dtos.DbInvoice;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.dtos.DbInvoiceItem;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.dtos.DbProductKey;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jooq.Condition;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.generated.tables.CustomerSummary.CUSTOMER_SUMMARY;
+import static dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.generated.tables.Invoice.INVOICE;
+import static dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.generated.tables.InvoiceItem.INVOICE_ITEM;
+import static dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.generated.tables.Product.PRODUCT;
+import static org.jooq.impl.DSL.excluded;
+import static org.jooq.impl.DSL.greatest;
+import static org.jooq.impl.DSL.noCondition;
+import static org.jooq.impl.DSL.select;
+
+@ApplicationScoped
+public class InvoiceRepository {
+
+    private final Pool pool;
+    private final ReactiveJooq jooq;
+    private final ProductRepository productRepository;
+
+    public InvoiceRepository(Pool pool, ReactiveJooq jooq, ProductRepository productRepository) {
+        this.pool = pool;
+        this.jooq = jooq;
+        this.productRepository = productRepository;
+    }
+
+    /**
+     * The customer's invoices, limited to those dated within {@code from} and {@code to} (both inclusive) where given.
+     * Bounds on the partition key let PostgreSQL skip the monthly partitions outside the range.
+     */
+    public Uni<List<DbInvoice>> findAllByCustomerId(int customerId, LocalDate from, LocalDate to) {
+        Condition dated = noCondition();
+        if (from != null) {
+            dated = dated.and(INVOICE.INVOICE_DATE.ge(from));
+        }
+        if (to != null) {
+            dated = dated.and(INVOICE.INVOICE_DATE.le(to));
+        }
+        return jooq.fetch(pool, jooq.dsl().select(INVOICE.INVOICE_ID, INVOICE.INVOICE_DATE, INVOICE.TOTAL_AMOUNT)
+                        .from(INVOICE)
+                        .where(INVOICE.CUSTOMER_ID.eq(customerId))
+                        .and(dated)
+                        .orderBy(INVOICE.INVOICE_ID),
+                row -> new DbInvoice(
+                        row.getInteger(INVOICE.INVOICE_ID.getName()),
+                        row.getLocalDate(INVOICE.INVOICE_DATE.getName()),
+                        CentsConverter.cents(row.getBigDecimal(INVOICE.TOTAL_AMOUNT.getName()))
+                ));
+    }
+
+    /**
+     * The invoice's lines. Matching the invoice's date from a subquery as well lets PostgreSQL prune all
+     * {@code invoice_item} partitions but the invoice's month when it runs the query; without it, every monthly
+     * partition is read. The subquery itself still probes the primary key of every {@code invoice} partition.
+     */
+    public Uni<List<DbInvoiceItem>> findItemsByInvoiceId(int invoiceId) {
+        return jooq.fetch(pool, jooq.dsl().select(INVOICE_ITEM.QUANTITY, INVOICE_ITEM.UNIT_PRICE, PRODUCT.PRODUCT_NAME, PRODUCT.PRICE)
+                        .from(INVOICE_ITEM)
+                        .join(PRODUCT).on(INVOICE_ITEM.PRODUCT_ID.eq(PRODUCT.PRODUCT_ID))
+                        .where(INVOICE_ITEM.INVOICE_ID.eq(invoiceId))
+                        .and(INVOICE_ITEM.INVOICE_DATE.eq(select(INVOICE.INVOICE_DATE).from(INVOICE).where(INVOICE.INVOICE_ID.eq(invoiceId))))
+                        .orderBy(INVOICE_ITEM.INVOICE_ITEM_ID),
+                row -> new DbInvoiceItem(
+                        row.getInteger(INVOICE_ITEM.QUANTITY.getName()),
+                        CentsConverter.cents(row.getBigDecimal(INVOICE_ITEM.UNIT_PRICE.getName())),
+                        row.getString(PRODUCT.PRODUCT_NAME.getName()),
+                        CentsConverter.cents(row.getBigDecimal(PRODUCT.PRICE.getName()))
+                ));
+    }
+
+    /**
+     * The invoice INSERT, the product upsert and the summary upsert do not depend on each other, so all are sent
+     * before any result is back and the connection pipelines them; the item INSERT follows once the ids are known.
+     */
+    public Uni<Integer> createInvoice(ApiNewInvoice newInvoice) {
+        var quantities = quantitiesByProduct(newInvoice.invoiceItemList());
+        var invoiceDate = LocalDate.ofInstant(newInvoice.timestamp(), ZoneOffset.UTC);
+        long totalAmountCents = totalCents(newInvoice.invoiceItemList());
+        var insertInvoice = jooq.dsl().insertInto(INVOICE)
+                .set(INVOICE.CUSTOMER_ID, newInvoice.customerId())
+                .set(INVOICE.INVOICE_DATE, invoiceDate)
+                .set(INVOICE.TOTAL_AMOUNT, totalAmountCents)
+                .returning(INVOICE.INVOICE_ID);
+        // customer_summary is kept up to date by every invoice insert, see V6__customer_summary.sql
+        var addToSummary = jooq.dsl().insertInto(CUSTOMER_SUMMARY)
+                .set(CUSTOMER_SUMMARY.CUSTOMER_ID, newInvoice.customerId())
+                .set(CUSTOMER_SUMMARY.INVOICE_COUNT, 1)
+                .set(CUSTOMER_SUMMARY.TOTAL_REVENUE, totalAmountCents)
+                .set(CUSTOMER_SUMMARY.LAST_INVOICE_DATE, invoiceDate)
+                .onConflict(CUSTOMER_SUMMARY.CUSTOMER_ID)
+                .doUpdate()
+                .set(CUSTOMER_SUMMARY.INVOICE_COUNT, CUSTOMER_SUMMARY.INVOICE_COUNT.plus(1))
+                .set(CUSTOMER_SUMMARY.TOTAL_REVENUE, CUSTOMER_SUMMARY.TOTAL_REVENUE.plus(excluded(CUSTOMER_SUMMARY.TOTAL_REVENUE)))
+                .set(CUSTOMER_SUMMARY.LAST_INVOICE_DATE, greatest(CUSTOMER_SUMMARY.LAST_INVOICE_DATE, excluded(CUSTOMER_SUMMARY.LAST_INVOICE_DATE)));
+
+        Map<DbProductKey, Integer> productIds = new LinkedHashMap<>();
+        return pool.withTransaction(connection -> Uni.combine().all().unis(
+                                jooq.fetchOne(connection, insertInvoice, row -> row.getInteger(INVOICE.INVOICE_ID.getName())),
+                                productRepository.resolveIds(connection, quantities.keySet()),
+                                jooq.execute(connection, addToSummary))
+                        .asTuple()
+                        .call(ids -> {
+                            productIds.putAll(ids.getItem2());
+                            var insertItems = jooq.dsl().insertInto(INVOICE_ITEM,
+                                    INVOICE_ITEM.INVOICE_ID, INVOICE_ITEM.PRODUCT_ID, INVOICE_ITEM.QUANTITY, INVOICE_ITEM.UNIT_PRICE, INVOICE_ITEM.INVOICE_DATE);
+                            for (var line : quantities.entrySet()) {
+                                var product = line.getKey();
+                                insertItems = insertItems.values(ids.getItem1(), productIds.get(product), line.getValue(), product.priceCents(), invoiceDate);
+                            }
+                            return jooq.execute(connection, insertItems);
+                        })
+                        .map(ids -> ids.getItem1()))
+                // only committed products may be cached
+                .invoke(() -> productRepository.cache(productIds));
+    }
+
+    // sum of price times quantity in cents; overflowing a long fails instead of wrapping
+    private static long totalCents(List<ApiNewInvoice.ApiNewInvoiceItem> items) {
+        long total = 0;
+        for (var item : items) {
+            total = Math.addExact(total, Math.multiplyExact(item.priceCents(), item.quantity()));
+        }
+        return total;
+    }
+
+    // a product may appear only once per invoice (uq_invoice_product), so lines for the same product are merged
+    private static Map<DbProductKey, Integer> quantitiesByProduct(List<ApiNewInvoice.ApiNewInvoiceItem> items) {
+        Map<DbProductKey, Integer> quantities = new LinkedHashMap<>();
+        for (var item : items) {
+            quantities.merge(ProductRepository.key(item.productName(), item.priceCents()), item.quantity(), Integer::sum);
+        }
+        return quantities;
+    }
+}
@@ -0,0 +1,99 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.repositories;
+
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.CentsConverter;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.ReactiveJooq;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.dtos.DbProductKey;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.SqlClient;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jooq.impl.DSL;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.generated.tables.Product.PRODUCT;
+
+/**
+ * Products are unique by name and price. Ids are resolved through a bounded in-process cache
+ * ({@value #PRODUCT_ID_CACHE}) and an {@code INSERT ... ON CONFLICT DO NOTHING RETURNING} for the misses.
+ */
+@ApplicationScoped
+public class ProductRepository {
+
+    public static final String PRODUCT_ID_CACHE = "product-ids";
+
+    private final ReactiveJooq jooq;
+    private final CaffeineCache productIds;
+
+    public ProductRepository(ReactiveJooq jooq, @CacheName(PRODUCT_ID_CACHE) Cache productIds) {
+        this.jooq = jooq;
+        this.productIds = productIds.as(CaffeineCache.class);
+    }
+
+    public static DbProductKey key(String name, long priceCents) {
+        return new DbProductKey(name, priceCents);
+    }
+
+    /**
+     * Returns the id of every product, creating unknown ones on {@code connection}. The result must only be
+     * passed to {@link #cache(Map)} after the connection's transaction committed, otherwise a rolled-back
+     * insert would leave a dangling id in the cache.
+     */
+    public Uni<Map<DbProductKey, Integer>> resolveIds(SqlClient connection, Collection<DbProductKey> keys) {
+        Map<DbProductKey, Integer> ids = new HashMap<>();
+        List<DbProductKey> misses = new ArrayList<>();
+        for (var key : keys) {
+            CompletableFuture<Integer> cached = productIds.getIfPresent(key);
+            // only completed entries are ever put, so join() does not block
+            if (cached != null) {
+                ids.put(key, cached.join());
+            } else {
+                misses.add(key);
+            }
+        }
+        if (misses.isEmpty()) {
+            return Uni.createFrom().item(ids);
+        }
+
+        // sorted so concurrent writers take the unique index locks in the same order
+        misses.sort(Comparator.comparing(DbProductKey::name).thenComparingLong(DbProductKey::priceCents));
+        var upsert = jooq.dsl().insertInto(PRODUCT, PRODUCT.PRODUCT_NAME, PRODUCT.PRICE)
+                .valuesOfRows(misses.stream().map(k -> DSL.row(k.name(), k.priceCents())).toList())
+                .onConflictDoNothing()
+                .returning(PRODUCT.PRODUCT_ID, PRODUCT.PRODUCT_NAME, PRODUCT.PRICE);
+        return jooq.execute(connection, upsert)
+                .invoke(rows -> rows.forEach(row -> putRow(ids, row)))
+                .chain(() -> {
+                    // ON CONFLICT DO NOTHING returns nothing for products that already existed
+                    var existing = misses.stream().filter(k -> !ids.containsKey(k)).toList();
+                    if (existing.isEmpty()) {
+                        return Uni.createFrom().item(ids);
+                    }
+                    var lookup = jooq.dsl().select(PRODUCT.PRODUCT_ID, PRODUCT.PRODUCT_NAME, PRODUCT.PRICE)
+                            .from(PRODUCT)
+                            .where(DSL.row(PRODUCT.PRODUCT_NAME, PRODUCT.PRICE)
+                                    .in(existing.stream().map(k -> DSL.row(k.name(), k.priceCents())).toList()));
+                    return jooq.execute(connection, lookup)
+                            .invoke(rows -> rows.forEach(row -> putRow(ids, row)))
+                            .replaceWith(ids);
+                });
+    }
+
+    public void cache(Map<DbProductKey, Integer> ids) {
+        ids.forEach((key, id) -> productIds.put(key, CompletableFuture.completedFuture(id)));
+    }
+
+    private static void putRow(Map<DbProductKey, Integer> ids, Row row) {
+        ids.put(new DbProductKey(row.getString(PRODUCT.PRODUCT_NAME.getName()), CentsConverter.cents(row.getBigDecimal(PRODUCT.PRICE.getName()))),
+                row.getInteger(PRODUCT.PRODUCT_ID.getName()));
+    }
+}
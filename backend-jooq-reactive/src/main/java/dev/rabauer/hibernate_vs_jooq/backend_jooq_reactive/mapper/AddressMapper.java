@@ -0,0 +1,14 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.mapper;
+
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.api.dtos.ApiAddress;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.dtos.DbAddress;
+
+public final class AddressMapper {
+
+    private AddressMapper() {
+    }
+
+    public static ApiAddress dbToApi(DbAddress db) {
+        return new ApiAddress(db.street(), db.city(), db.country());
+    }
+}
@@ -0,0 +1,19 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.mapper;
+
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.api.dtos.ApiCustomer;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.dtos.DbCustomer;
+
+public final class CustomerMapper {
+
+    private CustomerMapper() {
+    }
+
+    public static ApiCustomer dbToApi(DbCustomer dbCustomer) {
+        return new ApiCustomer(
+                dbCustomer.customerId(),
+                dbCustomer.firstName(),
+                dbCustomer.lastName(),
+                dbCustomer.email()
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.mapper;
+
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.api.dtos.ApiInvoice;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.api.dtos.ApiInvoiceDetail;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.dtos.DbInvoice;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.db.dtos.DbInvoiceItem;
+
+import java.time.ZoneOffset;
+import java.util.List;
+
+public final class InvoiceMapper {
+
+    private InvoiceMapper() {
+    }
+
+    public static ApiInvoice dbToApi(DbInvoice db) {
+        var timestamp = db.invoiceDate().atStartOfDay().toInstant(ZoneOffset.UTC);
+        return new ApiInvoice(db.invoiceId(), timestamp, db.totalAmountCents());
+    }
+
+    public static ApiInvoiceDetail itemsToApiDetail(List<DbInvoiceItem> items) {
+        var apiItems = items.stream().map(i -> new ApiInvoiceDetail.ApiInvoiceItem(
+                i.quantity(),
+                new ApiInvoiceDetail.ApiProduct(i.productName(), i.productPriceCents())
+        )).toList();
+        return new ApiInvoiceDetail(apiItems);
+    }
+}
@@ -0,0 +1,53 @@
+CREATE TABLE customer (
+    customer_id INTEGER GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    first_name VARCHAR(100) NOT NULL,
+    last_name VARCHAR(100) NOT NULL,
+    email VARCHAR(255) NOT NULL UNIQUE
+);
+
+CREATE TABLE product (
+    product_id INTEGER GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    product_name VARCHAR(255) NOT NULL,
+    price NUMERIC(12, 2) NOT NULL CHECK (price >= 0)
+);
+
+CREATE TABLE address (
+    address_id INTEGER GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    customer_id INTEGER NOT NULL,
+    street VARCHAR(255) NOT NULL,
+    city VARCHAR(100) NOT NULL,
+    country VARCHAR(100) NOT NULL,
+    CONSTRAINT fk_address_customer
+        FOREIGN KEY (customer_id)
+        REFERENCES customer (customer_id)
+        ON DELETE CASCADE
+);
+
+CREATE TABLE invoice (
+    invoice_id INTEGER GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    customer_id INTEGER NOT NULL,
+    invoice_date DATE NOT NULL,
+    total_amount NUMERIC(14, 2) NOT NULL CHECK (total_amount >= 0),
+    CONSTRAINT fk_invoice_customer
+        FOREIGN KEY (customer_id)
+        REFERENCES customer (customer_id)
+        ON DELETE RESTRICT
+);
+
+CREATE TABLE invoice_item (
+    invoice_item_id INTEGER GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    invoice_id INTEGER NOT NULL,
+    product_id INTEGER NOT NULL,
+    quantity INTEGER NOT NULL CHECK (quantity > 0),
+    unit_price NUMERIC(12, 2) NOT NULL CHECK (unit_price >= 0),
+    CONSTRAINT fk_invoice_item_invoice
+        FOREIGN KEY (invoice_id)
+        REFERENCES invoice (invoice_id)
+        ON DELETE CASCADE,
+    CONSTRAINT fk_invoice_item_product
+        FOREIGN KEY (product_id)
+        REFERENCES product (product_id)
+        ON DELETE RESTRICT,
+    CONSTRAINT uq_invoice_product
+        UNIQUE (invoice_id, product_id)
+);
@@ -0,0 +1,10 @@
+-- Per-customer and per-invoice reads filter on the foreign keys. The key columns include the primary key so rows
+-- come back in id order, and the INCLUDE columns are all these reads select, which allows index-only scans.
+CREATE INDEX ix_address_customer ON address (customer_id, address_id) INCLUDE (street, city, country);
+
+CREATE INDEX ix_invoice_customer ON invoice (customer_id, invoice_id) INCLUDE (invoice_date, total_amount);
+
+-- uq_invoice_product already leads with invoice_id; it is rebuilt to carry the columns the item reads select
+-- instead of adding a second index on the same key.
+ALTER TABLE invoice_item DROP CONSTRAINT uq_invoice_product;
+ALTER TABLE invoice_item ADD CONSTRAINT uq_invoice_product UNIQUE (invoice_id, product_id) INCLUDE (quantity, unit_price);
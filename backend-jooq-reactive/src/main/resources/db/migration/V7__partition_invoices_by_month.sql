@@ -0,0 +1,108 @@
+-- invoice and invoice_item become range partitioned by month of invoice_date. invoice_item carries invoice_date
+-- down from its invoice so both tables are split the same way and an invoice's lines live in the matching partition.
+-- Unique constraints on a partitioned table must contain the partition key, so the primary keys become
+-- (id, invoice_date); ids still come from the pooled sequences and stay unique on their own.
+ALTER TABLE invoice_item RENAME TO invoice_item_unpartitioned;
+ALTER TABLE invoice RENAME TO invoice_unpartitioned;
+
+-- constraint and index names are reused below
+ALTER TABLE invoice_item_unpartitioned
+    DROP CONSTRAINT fk_invoice_item_invoice,
+    DROP CONSTRAINT fk_invoice_item_product,
+    DROP CONSTRAINT uq_invoice_product,
+    DROP CONSTRAINT invoice_item_pkey;
+ALTER TABLE invoice_unpartitioned
+    DROP CONSTRAINT fk_invoice_customer,
+    DROP CONSTRAINT invoice_pkey;
+DROP INDEX ix_invoice_customer;
+
+CREATE TABLE invoice (
+    invoice_id INTEGER NOT NULL DEFAULT nextval('invoice_seq'),
+    customer_id INTEGER NOT NULL,
+    invoice_date DATE NOT NULL,
+    total_amount NUMERIC(14, 2) NOT NULL CHECK (total_amount >= 0),
+    CONSTRAINT invoice_pkey
+        PRIMARY KEY (invoice_id, invoice_date),
+    CONSTRAINT fk_invoice_customer
+        FOREIGN KEY (customer_id)
+        REFERENCES customer (customer_id)
+        ON DELETE RESTRICT
+) PARTITION BY RANGE (invoice_date);
+
+CREATE INDEX ix_invoice_customer ON invoice (customer_id, invoice_id) INCLUDE (invoice_date, total_amount);
+
+-- invoice_date is appended rather than placed next to invoice_id so existing column positions do not move
+CREATE TABLE invoice_item (
+    invoice_item_id INTEGER NOT NULL DEFAULT nextval('invoice_item_seq'),
+    invoice_id INTEGER NOT NULL,
+    product_id INTEGER NOT NULL,
+    quantity INTEGER NOT NULL CHECK (quantity > 0),
+    unit_price NUMERIC(12, 2) NOT NULL CHECK (unit_price >= 0),
+    invoice_date DATE NOT NULL,
+    CONSTRAINT invoice_item_pkey
+        PRIMARY KEY (invoice_item_id, invoice_date),
+    CONSTRAINT fk_invoice_item_invoice
+        FOREIGN KEY (invoice_id, invoice_date)
+        REFERENCES invoice (invoice_id, invoice_date)
+        ON DELETE CASCADE,
+    CONSTRAINT fk_invoice_item_product
+        FOREIGN KEY (product_id)
+        REFERENCES product (product_id)
+        ON DELETE RESTRICT,
+    CONSTRAINT uq_invoice_product
+        UNIQUE (invoice_id, product_id, invoice_date) INCLUDE (quantity, unit_price)
+) PARTITION BY RANGE (invoice_date);
+
+-- rows outside every monthly partition land here; create_invoice_partitions skips months that already have rows in it
+CREATE TABLE invoice_default PARTITION OF invoice DEFAULT;
+CREATE TABLE invoice_item_default PARTITION OF invoice_item DEFAULT;
+
+-- Creates the monthly partitions invoice_yYYYYmMM and invoice_item_yYYYYmMM for every month from from_month to
+-- to_month that does not have them yet. Called after every migration (afterMigrate__invoice_partitions.sql) to keep
+-- partitions a year ahead, and safe to call by hand for any other range.
+CREATE FUNCTION create_invoice_partitions(from_month DATE, to_month DATE) RETURNS VOID
+LANGUAGE plpgsql AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month);
+    next_month DATE;
+    suffix TEXT;
+BEGIN
+    WHILE month_start <= to_month LOOP
+        next_month := month_start + INTERVAL '1 month';
+        suffix := to_char(month_start, '"y"YYYY"m"MM');
+        IF to_regclass('invoice_' || suffix) IS NULL THEN
+            -- attaching would fail on rows of that month already sitting in the default partition
+            IF EXISTS (SELECT 1 FROM invoice_default WHERE invoice_date >= month_start AND invoice_date < next_month)
+                OR EXISTS (SELECT 1 FROM invoice_item_default WHERE invoice_date >= month_start AND invoice_date < next_month) THEN
+                RAISE WARNING 'invoice_default holds rows of %, not creating its partitions', to_char(month_start, 'YYYY-MM');
+            ELSE
+                EXECUTE format('CREATE TABLE %I PARTITION OF invoice FOR VALUES FROM (%L) TO (%L)',
+                               'invoice_' || suffix, month_start, next_month);
+                EXECUTE format('CREATE TABLE %I PARTITION OF invoice_item FOR VALUES FROM (%L) TO (%L)',
+                               'invoice_item_' || suffix, month_start, next_month);
+            END IF;
+        END IF;
+        month_start := next_month;
+    END LOOP;
+END
+$$;
+
+-- one partition per month that already has invoices, plus the year ahead
+SELECT create_invoice_partitions(month_start, month_start)
+FROM (SELECT DISTINCT date_trunc('month', invoice_date)::DATE AS month_start FROM invoice_unpartitioned) existing;
+SELECT create_invoice_partitions(current_date, (current_date + INTERVAL '12 months')::DATE);
+
+INSERT INTO invoice (invoice_id, customer_id, invoice_date, total_amount)
+SELECT invoice_id, customer_id, invoice_date, total_amount
+FROM invoice_unpartitioned;
+
+INSERT INTO invoice_item (invoice_item_id, invoice_id, product_id, quantity, unit_price, invoice_date)
+SELECT ii.invoice_item_id, ii.invoice_id, ii.product_id, ii.quantity, ii.unit_price, i.invoice_date
+FROM invoice_item_unpartitioned ii
+JOIN invoice_unpartitioned i ON i.invoice_id = ii.invoice_id;
+
+DROP TABLE invoice_item_unpartitioned;
+DROP TABLE invoice_unpartitioned;
+
+ANALYZE invoice;
+ANALYZE invoice_item;
@@ -0,0 +1,3 @@
+-- Runs after every Flyway migrate, so each application start keeps invoice partitions a year ahead (see V7, V8 and V10);
+-- InvoicePartitions does the same daily while the application runs.
+SELECT create_invoice_partitions(current_date, (current_date + INTERVAL '12 months')::DATE);
@@ -0,0 +1,159 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.api;
+
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.api.dtos.ApiNewCustomer;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.api.dtos.ApiNewInvoice;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.test.PostgresResource;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@QuarkusTest
+@QuarkusTestResource(PostgresResource.class)
+public class MainResourceTest {
+
+    @Test
+    public void testCreateAndListCustomer() {
+        // create
+        int id = given()
+                .contentType(JSON)
+                .body(new ApiNewCustomer("Alice", "Smith", "alice@example.com"))
+                .when().post("/customer")
+                .then().statusCode(HttpStatus.SC_CREATED)
+                .body("email", equalTo("alice@example.com"))
+                .extract().path("id");
+
+        // list
+        given().when().get("/customer")
+                .then().statusCode(200)
+                .body("email", hasItem("alice@example.com"));
+    }
+
+    @Test
+    public void testCustomerKeysetPagination() {
+        for (int i = 0; i < 3; i++) {
+            given()
+                    .contentType(JSON)
+                    .body(new ApiNewCustomer("Page", "User" + i, "page" + i + "@example.com"))
+                    .when().post("/customer")
+                    .then().statusCode(HttpStatus.SC_CREATED);
+        }
+
+        List<Integer> firstPage = given().queryParam("limit", 2)
+                .when().get("/customer")
+                .then().statusCode(200)
+                .body("size()", is(2))
+                .header("Link", containsString("rel=\"next\""))
+                .extract().jsonPath().getList("id", Integer.class);
+        int after = firstPage.get(1);
+
+        given().queryParam("after", after).queryParam("limit", 2)
+                .when().get("/customer")
+                .then().statusCode(200)
+                .body("id", everyItem(greaterThan(after)));
+
+        // page size must be positive
+        given().queryParam("limit", 0)
+                .when().get("/customer")
+                .then().statusCode(400);
+    }
+
+    @Test
+    public void testStreamCustomersAsNdjson() {
+        given()
+                .contentType(JSON)
+                .body(new ApiNewCustomer("Nora", "Stream", "nora@example.com"))
+                .when().post("/customer")
+                .then().statusCode(HttpStatus.SC_CREATED);
+
+        String body = given().accept(MainResource.APPLICATION_NDJSON)
+                .when().get("/customer")
+                .then().statusCode(200)
+                .contentType(startsWith(MainResource.APPLICATION_NDJSON))
+                .extract().asString();
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines, everyItem(startsWith("{")));
+        assertThat(lines, hasItem(containsString("\"email\":\"nora@example.com\"")));
+    }
+
+    @Test
+    public void testCreateInvoiceAndGetDetail() {
+        // create customer
+        int customerId = given()
+                .contentType(JSON)
+                .body(new ApiNewCustomer("Bob", "Jones", "bob@example.com"))
+                .when().post("/customer")
+                .then().statusCode(HttpStatus.SC_CREATED)
+                .extract().path("id");
+
+        String location = given()
+                .contentType(JSON)
+                .body(new ApiNewInvoice(
+                        customerId,
+                        Instant.now(),
+                        List.of(
+                                new ApiNewInvoice.ApiNewInvoiceItem("Gadget", 1250, 2)
+                        )
+                ))
+                .when().post("/invoice")
+                .then().statusCode(201)
+                .extract().header("Location");
+
+        // invoice id from location
+        String[] parts = location.split("/");
+        int invoiceId = Integer.parseInt(parts[parts.length - 1]);
+
+        // get customer invoices
+        given().when().get("/customer/" + customerId + "/invoices")
+                .then().statusCode(200)
+                .body("id", hasItem(invoiceId));
+
+        // get invoice detail
+        given().when().get("/invoice/" + invoiceId)
+                .then().statusCode(200)
+                .body("items.size()", is(1))
+                .body("items[0].product.name", equalTo("Gadget"));
+    }
+
+    @Test
+    public void testInvoiceLinesShareProducts() {
+        int customerId = given()
+                .contentType(JSON)
+                .body(new ApiNewCustomer("Paula", "Product", "paula@example.com"))
+                .when().post("/customer")
+                .then().statusCode(HttpStatus.SC_CREATED)
+                .extract().path("id");
+
+        // the same product twice in one invoice becomes one line; the second invoice resolves the existing product
+        for (int i = 0; i < 2; i++) {
+            String location = given()
+                    .contentType(JSON)
+                    .body(new ApiNewInvoice(
+                            customerId,
+                            Instant.now(),
+                            List.of(
+                                    new ApiNewInvoice.ApiNewInvoiceItem("Widget", 350, 1),
+                                    new ApiNewInvoice.ApiNewInvoiceItem("Widget", 350, 2)
+                            )
+                    ))
+                    .when().post("/invoice")
+                    .then().statusCode(201)
+                    .extract().header("Location");
+
+            given().when().get(location)
+                    .then().statusCode(200)
+                    .body("items.size()", is(1))
+                    .body("items[0].quantity", is(3))
+                    .body("items[0].product.name", equalTo("Widget"));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq_reactive.test;
+
+import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class PostgresResource implements QuarkusTestResourceLifecycleManager {
+
+    private PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:latest")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Override
+    public Map<String, String> start() {
+        postgres.start();
+        Map<String, String> props = new HashMap<>();
+        props.put("quarkus.datasource.jdbc.url", postgres.getJdbcUrl());
+        props.put("quarkus.datasource.reactive.url", "postgresql://" + postgres.getHost() + ":"
+                + postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + postgres.getDatabaseName());
+        props.put("quarkus.datasource.username", postgres.getUsername());
+        props.put("quarkus.datasource.password", postgres.getPassword());
+        props.put("quarkus.datasource.db-kind", "postgresql");
+        // ensure Flyway uses the same datasource
+        props.put("quarkus.flyway.migrate-at-start", "true");
+        return props;
+    }
+
+    @Override
+    public void stop() {
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.api;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Writes a {@code List<T>} as a JSON array straight to the response with a {@link JsonGenerator}, one element at a
+ * time, instead of letting Jackson look up a serializer per record and reflect over its components. Subclasses write
+ * the fields of one element, with pre-encoded field names; the output is the same as Jackson's for the record.
+ * <p>
+ * Only entities whose generic type says {@code List<T>} are taken, so the resources wrap them in a
+ * {@link jakarta.ws.rs.core.GenericEntity}.
+ */
+public abstract class JsonListWriter<T> implements MessageBodyWriter<List<T>> {
+
+    private final Class<T> elementType;
+    private final JsonFactory jsonFactory;
+
+    protected JsonListWriter(Class<T> elementType, ObjectMapper objectMapper) {
+        this.elementType = elementType;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return List.class.isAssignableFrom(type)
+                && genericType instanceof ParameterizedType list
+                && list.getActualTypeArguments()[0] == elementType;
+    }
+
+    @Override
+    public void writeTo(List<T> elements, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(entityStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray(elements, elements.size());
+            for (T element : elements) {
+                generator.writeStartObject();
+                writeFields(generator, element);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    protected abstract void writeFields(JsonGenerator generator, T element) throws IOException;
+}
@@ -1,71 +1,330 @@
 package dev.rabauer.hibernate_vs_jooq.backend_jooq.api;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.*;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbCustomer;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbCustomerImport;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.CustomerImportRepository;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.AddressRepository;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.CustomerRepository;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.GroupCommitWriter;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.InvoiceRepository;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.TableVersions;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.TableVersions.Table;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.mapper.AddressMapper;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.mapper.CustomerMapper;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.mapper.InvoiceMapper;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.mapper.MappedList;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.GenericEntity;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.core.UriBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
+/**
+ * Every endpoint runs on its own virtual thread; with {@code quarkus.virtual-threads.enabled=false} they fall
+ * back to the worker pool.
+ * <p>
+ * The customer list and the per-customer collections carry a weak ETag made of the {@link TableVersions} of the
+ * tables behind them, so a matching {@code If-None-Match} is answered with 304 before any query runs. Invoices never
+ * change once created, so their detail is cacheable for good.
+ * <p>
+ * Responses are JSON unless the client prefers {@value SmileMessageBodyWriter#APPLICATION_SMILE}; the lower
+ * {@code qs} keeps JSON as the answer for {@code Accept: *}{@code /*}. The customer page is fetched straight into
+ * {@link ApiCustomer}s, the address and invoice lists are handed over as {@link MappedList} views of the cached rows;
+ * all are typed by a {@link GenericEntity} so that their {@link JsonListWriter}s pick them up.
+ */
 @Path("/")
-@Produces(MediaType.APPLICATION_JSON)
+@Produces({MediaType.APPLICATION_JSON, SmileMessageBodyWriter.APPLICATION_SMILE + ";qs=0.9"})
 @Consumes(MediaType.APPLICATION_JSON)
+@RunOnVirtualThread
 public class MainResource {
 
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+    public static final String TEXT_CSV = "text/csv";
+
+    static final int MAX_CUSTOMER_PAGE_SIZE = 1000;
+    static final long GROUP_COMMIT_RETRY_AFTER_SECONDS = 1;
+    static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    static final String REVALIDATE = "no-cache";
+
     private final CustomerRepository customerRepository;
     private final AddressRepository addressRepository;
     private final InvoiceRepository invoiceRepository;
+    private final CustomerImportRepository customerImportRepository;
+    private final GroupCommitWriter groupCommitWriter;
+    private final TableVersions versions;
+    private final ObjectMapper objectMapper;
+    private final boolean invoiceDetailJsonPassThrough;
 
-    public MainResource(CustomerRepository customerRepository, AddressRepository addressRepository, InvoiceRepository invoiceRepository) {
+    public MainResource(CustomerRepository customerRepository, AddressRepository addressRepository, InvoiceRepository invoiceRepository, CustomerImportRepository customerImportRepository,
+                        GroupCommitWriter groupCommitWriter, TableVersions versions, ObjectMapper objectMapper,
+                        @ConfigProperty(name = "invoice.detail-json-pass-through", defaultValue = "false") boolean invoiceDetailJsonPassThrough) {
         this.customerRepository = customerRepository;
         this.addressRepository = addressRepository;
         this.invoiceRepository = invoiceRepository;
+        this.customerImportRepository = customerImportRepository;
+        this.groupCommitWriter = groupCommitWriter;
+        this.versions = versions;
+        this.objectMapper = objectMapper;
+        this.invoiceDetailJsonPassThrough = invoiceDetailJsonPassThrough;
+    }
+
+    /**
+     * Keyset-paginated customer list ordered by id. {@code after} is the last id of the previous page;
+     * a {@code Link: <...>; rel="next"} header is sent as long as the page is full.
+     */
+    @GET
+    @Path("/customer")
+    public Response getCustomers(@QueryParam("after") @DefaultValue("0") int after,
+                                 @QueryParam("limit") @DefaultValue("100") @Min(1) int limit,
+                                 @Context Request request) {
+        return conditional(request, versions.version(Table.CUSTOMER), () -> {
+            int pageSize = Math.min(limit, MAX_CUSTOMER_PAGE_SIZE);
+            List<ApiCustomer> page = customerRepository.findPage(after, pageSize, ApiCustomer::new);
+            var response = Response.ok(new GenericEntity<List<ApiCustomer>>(page) {
+            });
+            if (page.size() == pageSize) {
+                int nextCursor = page.get(page.size() - 1).id();
+                response.link(UriBuilder.fromPath("/customer")
+                        .queryParam("after", nextCursor)
+                        .queryParam("limit", pageSize)
+                        .build(), "next");
+            }
+            return response;
+        });
     }
 
+    /**
+     * Full customer export as newline-delimited JSON. Rows go from the database cursor straight to the
+     * response stream, so heap usage does not grow with the table. The lower {@code qs} keeps JSON as the
+     * answer for {@code Accept: *}{@code /*}.
+     */
     @GET
     @Path("/customer")
-    public List<ApiCustomer> getAllCustomers() {
-        return customerRepository.findAll().stream().map(CustomerMapper::dbToApi).toList();
+    @Produces(APPLICATION_NDJSON + ";qs=0.5")
+    public StreamingOutput streamAllCustomers() {
+        var writer = objectMapper.writerFor(ApiCustomer.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return output -> {
+            try (var generator = objectMapper.createGenerator(output)) {
+                generator.setRootValueSeparator(null);
+                customerRepository.streamAll(ApiCustomer::new, customer -> {
+                    try {
+                        writer.writeValue(generator, customer);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Customer with addresses, invoices and invoice items in one response, read with a single SQL statement.
+     */
+    @GET
+    @Path("/customer/{customerId}/overview")
+    public Response getCustomerOverview(@PathParam("customerId") int customerId, @Context Request request) {
+        // customer rows are never updated, only their addresses and invoices change
+        return conditional(request, versions.version(Table.ADDRESS, Table.INVOICE), () -> {
+            var overview = customerRepository.findOverview(customerId);
+            if (overview == null) {
+                throw new NotFoundException();
+            }
+            return Response.ok(CustomerMapper.dbToApi(overview));
+        });
+    }
+
+    /**
+     * Invoice count, revenue and last invoice date of a customer, read from the incrementally maintained
+     * {@code customer_summary} instead of aggregating the invoices.
+     */
+    @GET
+    @Path("/customer/{customerId}/summary")
+    public Response getCustomerSummary(@PathParam("customerId") int customerId, @Context Request request) {
+        return conditional(request, versions.version(Table.INVOICE), () -> {
+            var summary = customerRepository.findSummary(customerId);
+            if (summary == null) {
+                throw new NotFoundException();
+            }
+            return Response.ok(CustomerMapper.dbToApi(summary));
+        });
     }
 
     @GET
     @Path("/customer/{customerId}/addresses")
-    public List<ApiAddress> getAllAddressesOfCustomer(@PathParam("customerId") int customerId) {
-        return addressRepository.findAllByCustomerId(customerId).stream().map(AddressMapper::dbToApi).toList();
+    public Response getAllAddressesOfCustomer(@PathParam("customerId") int customerId, @Context Request request) {
+        return conditional(request, versions.version(Table.ADDRESS), () -> Response.ok(new GenericEntity<List<ApiAddress>>(
+                MappedList.of(addressRepository.findAllByCustomerId(customerId), AddressMapper::dbToApi)) {
+        }));
     }
 
+    /**
+     * All invoices of the customer, or with {@code from} and/or {@code to} (ISO dates, inclusive) only those dated
+     * within that range, which reads only the matching monthly partitions.
+     */
     @GET
     @Path("/customer/{customerId}/invoices")
-    public List<ApiInvoice> getAllInvoicesOfCustomer(@PathParam("customerId") int customerId) {
-        return invoiceRepository.findAllByCustomerId(customerId).stream().map(InvoiceMapper::dbToApi).toList();
+    public Response getAllInvoicesOfCustomer(@PathParam("customerId") int customerId,
+                                             @QueryParam("from") LocalDate from,
+                                             @QueryParam("to") LocalDate to,
+                                             @Context Request request) {
+        return conditional(request, versions.version(Table.INVOICE), () -> {
+            var invoices = from == null && to == null
+                    ? invoiceRepository.findAllByCustomerId(customerId)
+                    : invoiceRepository.findAllByCustomerIdBetween(customerId, from, to);
+            return Response.ok(new GenericEntity<List<ApiInvoice>>(MappedList.of(invoices, InvoiceMapper::dbToApi)) {
+            });
+        });
     }
 
+    /**
+     * Returns an {@link ApiInvoiceDetail}. With {@code invoice.detail-json-pass-through=true} the JSON comes
+     * ready-made from the database and is written as is, skipping the mapper and Jackson; it is JSON even for clients
+     * that prefer Smile.
+     * <p>
+     * An existing invoice is sent with {@value #IMMUTABLE} and an ETag of its id, so a revalidation is answered
+     * without a query. An unknown id answers an empty item list that is not cached, the invoice may still be on its
+     * way to the replica or not be created yet.
+     */
     @GET
     @Path("/invoice/{invoiceId}")
-    public ApiInvoiceDetail getInvoiceDetail(@PathParam("invoiceId") int invoiceId) {
-        return InvoiceMapper.itemsToApiDetail(invoiceRepository.findItemsByInvoiceId(invoiceId));
+    public Response getInvoiceDetail(@PathParam("invoiceId") int invoiceId, @Context Request request) {
+        var tag = new EntityTag(Integer.toString(invoiceId), true);
+        var notModified = request.evaluatePreconditions(tag);
+        if (notModified != null) {
+            return notModified.header(HttpHeaders.CACHE_CONTROL, IMMUTABLE).build();
+        }
+        Response.ResponseBuilder found;
+        if (invoiceDetailJsonPassThrough) {
+            String json = invoiceRepository.findDetailJson(invoiceId);
+            found = json == null ? null : Response.ok(json, MediaType.APPLICATION_JSON_TYPE);
+        } else {
+            var items = invoiceRepository.findItemsByInvoiceId(invoiceId);
+            found = items.isEmpty() ? null : Response.ok(InvoiceMapper.itemsToApiDetail(items));
+        }
+        if (found == null) {
+            return Response.ok(new ApiInvoiceDetail(List.of())).header(HttpHeaders.CACHE_CONTROL, REVALIDATE).build();
+        }
+        return found.tag(tag).header(HttpHeaders.CACHE_CONTROL, IMMUTABLE).build();
     }
 
+    /**
+     * With {@code group-commit.enabled=true} the INSERT is committed together with other writes by the
+     * {@link GroupCommitWriter}; a full write queue answers 503 with {@code Retry-After}.
+     */
     @POST
     @Path("/customer")
     public Response createCustomer(@Valid ApiNewCustomer newCustomer) {
-        DbCustomer db = customerRepository.create(newCustomer.firstName(), newCustomer.lastName(), newCustomer.email());
+        DbCustomer db = groupCommitWriter.isEnabled()
+                ? groupCommitted(customerRepository.createWrite(newCustomer.firstName(), newCustomer.lastName(), newCustomer.email()))
+                : customerRepository.create(newCustomer.firstName(), newCustomer.lastName(), newCustomer.email());
         ApiCustomer api = CustomerMapper.dbToApi(db);
         return Response.created(java.net.URI.create("/customer/" + api.id())).entity(api).build();
     }
 
+    /**
+     * Bulk import of customers (with an optional address) from CSV with the header
+     * {@code first_name,last_name,email,street,city,country}. Rows are COPYed into a staging table and merged
+     * in one transaction; invalid rows and duplicate emails are reported instead of failing the import.
+     */
+    @POST
+    @Path("/customer/bulk")
+    @Consumes(TEXT_CSV)
+    public ApiBulkImportResult importCustomersCsv(InputStream csv) {
+        try {
+            return CustomerMapper.dbToApi(customerImportRepository.importCsv(csv));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Same as the CSV import, one {@link ApiBulkCustomer} JSON object per line. Lines are parsed while they
+     * are copied, so the request body is never held in memory as a whole.
+     */
+    @POST
+    @Path("/customer/bulk")
+    @Consumes(APPLICATION_NDJSON)
+    public ApiBulkImportResult importCustomersNdjson(InputStream ndjson) throws IOException {
+        try (MappingIterator<ApiBulkCustomer> lines = objectMapper.readerFor(ApiBulkCustomer.class).readValues(ndjson)) {
+            Iterator<DbCustomerImport> rows = new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    try {
+                        return lines.hasNextValue();
+                    } catch (IOException e) {
+                        throw new IllegalArgumentException("Malformed import data: " + e.getMessage(), e);
+                    }
+                }
+
+                @Override
+                public DbCustomerImport next() {
+                    try {
+                        return CustomerMapper.apiToDbImport(lines.nextValue());
+                    } catch (IOException e) {
+                        throw new IllegalArgumentException("Malformed import data: " + e.getMessage(), e);
+                    }
+                }
+            };
+            return CustomerMapper.dbToApi(customerImportRepository.importRows(rows));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Group committed like {@link #createCustomer}.
+     */
     @POST
     @Path("/invoice")
     public Response createInvoice(@Valid ApiNewInvoice newInvoice) {
-        int id = invoiceRepository.createInvoice(newInvoice);
+        int id = groupCommitWriter.isEnabled()
+                ? groupCommitted(invoiceRepository.createInvoiceWrite(newInvoice))
+                : invoiceRepository.createInvoice(newInvoice);
         return Response.created(java.net.URI.create("/invoice/" + id)).build();
     }
+
+    /**
+     * 304 if the request's {@code If-None-Match} matches {@code version}, otherwise the response built by
+     * {@code response}, tagged with it. Either way caches have to revalidate before reusing the response.
+     */
+    private static Response conditional(Request request, String version, Supplier<Response.ResponseBuilder> response) {
+        var tag = new EntityTag(version, true);
+        var notModified = request.evaluatePreconditions(tag);
+        if (notModified != null) {
+            return notModified.header(HttpHeaders.CACHE_CONTROL, REVALIDATE).build();
+        }
+        return response.get().tag(tag).header(HttpHeaders.CACHE_CONTROL, REVALIDATE).build();
+    }
+
+    private <T> T groupCommitted(GroupCommitWriter.Write<T> write) {
+        try {
+            return groupCommitWriter.submit(write);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException(GROUP_COMMIT_RETRY_AFTER_SECONDS, e);
+        }
+    }
 }
@@ -0,0 +1,70 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.api;
+
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.ReadRouter;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.ReadYourWrites;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.Cookie;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.NewCookie;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+
+import java.util.Set;
+
+/**
+ * Read-your-writes stickiness per client: a successful write answers with a {@value #COOKIE} cookie holding the
+ * end of {@link ReadRouter#readYourWritesWindow()} in epoch milliseconds, and requests that bring it back before
+ * then read from the primary instead of the replica.
+ */
+@Provider
+public class ReadYourWritesFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    public static final String COOKIE = "read-primary-until";
+
+    private static final Set<String> READ_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+
+    private final ReadRouter readRouter;
+    private final ReadYourWrites readYourWrites;
+
+    public ReadYourWritesFilter(ReadRouter readRouter, ReadYourWrites readYourWrites) {
+        this.readRouter = readRouter;
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext request) {
+        Cookie cookie = request.getCookies().get(COOKIE);
+        if (cookie != null && primaryUntil(cookie.getValue()) > System.currentTimeMillis()) {
+            readYourWrites.requirePrimary();
+        }
+    }
+
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+        var window = readRouter.readYourWritesWindow();
+        if (window.isZero()
+                || READ_METHODS.contains(request.getMethod())
+                || response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL) {
+            return;
+        }
+        var cookie = new NewCookie.Builder(COOKIE)
+                .value(Long.toString(System.currentTimeMillis() + window.toMillis()))
+                .path("/")
+                .maxAge((int) Math.ceilDiv(window.toMillis(), 1000))
+                .httpOnly(true)
+                .build();
+        response.getHeaders().add(HttpHeaders.SET_COOKIE, cookie);
+    }
+
+    private static long primaryUntil(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
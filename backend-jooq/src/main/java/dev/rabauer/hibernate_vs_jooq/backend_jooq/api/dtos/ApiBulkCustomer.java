@@ -0,0 +1,4 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos;
+
+public record ApiBulkCustomer(String firstName, String lastName, String email, ApiAddress address) {
+}
@@ -0,0 +1,6 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos;
+
+import java.time.Instant;
+
+public record ApiCustomerSummary(int customerId, int invoiceCount, long totalRevenueCents, Instant lastInvoiceTimestamp) {
+}
@@ -3,6 +3,7 @@ package dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 
 import java.time.Instant;
 import java.util.List;
@@ -18,8 +19,8 @@ public record ApiNewInvoice(
     public record ApiNewInvoiceItem(
             @NotBlank
             String productName,
-            @NotNull
-            double price,
+            @PositiveOrZero
+            long priceCents,
             @NotNull
             int quantity
     ) {
@@ -0,0 +1,35 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.db;
+
+import org.jooq.impl.AbstractConverter;
+
+import java.math.BigDecimal;
+
+/**
+ * Money columns, {@code NUMERIC(p, 2)}, as a number of cents. Attached to them by the code generator (see the
+ * {@code jooq-generate} profile), so the generated fields are {@code Field<Long>} and totals are summed and
+ * multiplied as {@code long}s instead of a {@link BigDecimal} per value. The driver still reads a
+ * {@link BigDecimal}, which is turned into cents right away.
+ */
+public class CentsConverter extends AbstractConverter<BigDecimal, Long> {
+
+    public CentsConverter() {
+        super(BigDecimal.class, Long.class);
+    }
+
+    @Override
+    public Long from(BigDecimal amount) {
+        return amount == null ? null : cents(amount);
+    }
+
+    @Override
+    public BigDecimal to(Long cents) {
+        return cents == null ? null : BigDecimal.valueOf(cents, 2);
+    }
+
+    /**
+     * The cents of a column value; the columns have a scale of 2, so this is exact.
+     */
+    public static long cents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+}
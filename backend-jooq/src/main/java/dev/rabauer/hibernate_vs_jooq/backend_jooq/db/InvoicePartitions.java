@@ -0,0 +1,27 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.db;
+
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jooq.DSLContext;
+
+/**
+ * Keeps the monthly invoice partitions a year ahead while the application runs. Flyway's
+ * {@code afterMigrate__invoice_partitions.sql} does the same, but only at startup; without this, an instance running
+ * longer than a year would put the invoices of further months into {@code invoice_default}. Creating partitions that
+ * exist is a no-op, and concurrent callers take turns on an advisory lock, so every instance of every backend can run
+ * it.
+ */
+@ApplicationScoped
+public class InvoicePartitions {
+
+    private final DSLContext dsl;
+
+    public InvoicePartitions(DSLContext dsl) {
+        this.dsl = dsl;
+    }
+
+    @Scheduled(cron = "{invoice-partitions.cron}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void createYearAhead() {
+        dsl.fetch("SELECT create_invoice_partitions(current_date, (current_date + INTERVAL '12 months')::DATE)");
+    }
+}
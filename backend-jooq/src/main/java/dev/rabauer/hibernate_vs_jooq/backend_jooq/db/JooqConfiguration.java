@@ -0,0 +1,37 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.db;
+
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.metrics.StatementStatistics;
+import io.quarkiverse.jooq.runtime.JooqCustomContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Named;
+import org.jooq.Configuration;
+import org.jooq.ExecuteListenerProvider;
+
+import java.util.Arrays;
+
+/**
+ * Customizes the jOOQ {@link Configuration} of the default {@link org.jooq.DSLContext}, selected by
+ * {@code quarkus.jooq.configuration-inject}. Adds the {@link StatementStatistics} to the extension's defaults; the
+ * replica's context is derived from the default one and counts its statements there as well.
+ */
+@ApplicationScoped
+@Named(JooqConfiguration.NAME)
+public class JooqConfiguration implements JooqCustomContext {
+
+    public static final String NAME = "jooqConfiguration";
+
+    private final StatementStatistics statementStatistics;
+
+    public JooqConfiguration(StatementStatistics statementStatistics) {
+        this.statementStatistics = statementStatistics;
+    }
+
+    @Override
+    public void apply(Configuration configuration) {
+        JooqCustomContext.super.apply(configuration);
+        ExecuteListenerProvider[] providers = configuration.executeListenerProviders();
+        ExecuteListenerProvider[] withStatistics = Arrays.copyOf(providers, providers.length + 1);
+        withStatistics[providers.length] = statementStatistics;
+        configuration.set(withStatistics);
+    }
+}
@@ -0,0 +1,6 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos;
+
+public record DbCustomerImport(
+        String firstName, String lastName, String email, String street, String city, String country
+) {
+}
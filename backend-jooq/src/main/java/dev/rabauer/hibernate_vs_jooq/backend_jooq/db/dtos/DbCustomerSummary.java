@@ -0,0 +1,6 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos;
+
+import java.time.LocalDate;
+
+public record DbCustomerSummary(Integer customerId, Integer invoiceCount, long totalRevenueCents, LocalDate lastInvoiceDate) {
+}
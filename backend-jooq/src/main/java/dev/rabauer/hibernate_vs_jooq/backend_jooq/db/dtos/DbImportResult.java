@@ -0,0 +1,9 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos;
+
+import java.util.List;
+
+public record DbImportResult(long received, long imported, long rejected, List<DbRejectedRow> rejectedRows) {
+
+    public record DbRejectedRow(long line, String email, String reason) {
+    }
+}
@@ -1,26 +1,45 @@
 package dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories;
 
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbAddress;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.metrics.MeasuredRepository;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
 import jakarta.enterprise.context.ApplicationScoped;
 import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
 
 import java.util.List;
 
 import static dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Address.ADDRESS;
 
 @ApplicationScoped
+@MeasuredRepository
 public class AddressRepository {
 
-    private final DSLContext dsl;
+    public static final String ADDRESS_CACHE = "customer-addresses";
 
-    public AddressRepository(DSLContext dsl) {
-        this.dsl = dsl;
+    private final ReadRouter reads;
+    private final Cache addressCache;
+    final QueryTemplate<Integer, DbAddress> findAllByCustomerId;
+
+    public AddressRepository(DSLContext dsl, ReadRouter reads, @CacheName(ADDRESS_CACHE) Cache addressCache) {
+        this.reads = reads;
+        this.addressCache = addressCache;
+        this.findAllByCustomerId = new QueryTemplate<>(dsl,
+                dsl.select(ADDRESS.STREET, ADDRESS.CITY, ADDRESS.COUNTRY)
+                        .from(ADDRESS)
+                        .where(ADDRESS.CUSTOMER_ID.eq(DSL.param("customerId", Integer.class)))
+                        .orderBy(ADDRESS.ADDRESS_ID),
+                (statement, customerId) -> statement.setInt(1, customerId),
+                row -> new DbAddress(row.getString(1), row.getString(2), row.getString(3)));
     }
 
+    /**
+     * Cached per customer in {@value #ADDRESS_CACHE}; addresses are only written by the bulk import, which
+     * invalidates the whole cache. A client within its read-your-writes window bypasses the cache, see
+     * {@link ReadRouter#cached}.
+     */
     public List<DbAddress> findAllByCustomerId(int customerId) {
-        return dsl.select(ADDRESS.STREET, ADDRESS.CITY, ADDRESS.COUNTRY)
-                .from(ADDRESS)
-                .where(ADDRESS.CUSTOMER_ID.eq(customerId))
-                .fetchInto(DbAddress.class);
+        return reads.cached(addressCache, customerId, id -> findAllByCustomerId.fetch(reads.read(), id));
     }
 }
@@ -1,35 +1,191 @@
 package dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories;
 
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbAddress;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbCustomer;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbCustomerOverview;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbCustomerSummary;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbInvoiceItem;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.TableVersions.Table;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.metrics.MeasuredRepository;
+import io.quarkus.arc.NoClassInterceptors;
 import jakarta.enterprise.context.ApplicationScoped;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
+import org.jooq.Function4;
+import org.jooq.Record3;
+import org.jooq.Record4;
+import org.jooq.RecordMapper;
+import org.jooq.ResultQuery;
+import org.jooq.impl.DSL;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Address.ADDRESS;
 import static dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Customer.CUSTOMER;
+import static dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.CustomerSummary.CUSTOMER_SUMMARY;
+import static dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Invoice.INVOICE;
+import static dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.InvoiceItem.INVOICE_ITEM;
+import static dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Product.PRODUCT;
+import static org.jooq.Records.mapping;
+import static org.jooq.impl.DSL.coalesce;
+import static org.jooq.impl.DSL.multiset;
+import static org.jooq.impl.DSL.row;
+import static org.jooq.impl.DSL.select;
 
 @ApplicationScoped
+@MeasuredRepository
 public class CustomerRepository {
 
+    private static final int STREAM_FETCH_SIZE = 1000;
+
     private final DSLContext dsl;
+    private final ReadRouter reads;
+    private final TableVersions versions;
 
-    public CustomerRepository(DSLContext dsl) {
+    public CustomerRepository(DSLContext dsl, ReadRouter reads, TableVersions versions) {
         this.dsl = dsl;
+        this.reads = reads;
+        this.versions = versions;
+    }
+
+    /**
+     * A page of customers, each row passed to {@code mapper} by column index (id, first name, last name, email), so
+     * the rows go straight into the caller's type without reflection, e.g. {@code ApiCustomer::new}.
+     */
+    public <T> List<T> findPage(int afterCustomerId, int limit, Function4<Integer, String, String, String, T> mapper) {
+        return pageQuery(afterCustomerId, limit).fetch(mapping(mapper));
+    }
+
+    ResultQuery<Record4<Integer, String, String, String>> pageQuery(int afterCustomerId, int limit) {
+        return reads.read().select(CUSTOMER.CUSTOMER_ID, CUSTOMER.FIRST_NAME, CUSTOMER.LAST_NAME, CUSTOMER.EMAIL)
+                .from(CUSTOMER)
+                .where(CUSTOMER.CUSTOMER_ID.gt(afterCustomerId))
+                .orderBy(CUSTOMER.CUSTOMER_ID)
+                .limit(limit);
     }
 
-    public List<DbCustomer> findAll() {
-        return dsl.selectFrom(CUSTOMER)
-                .fetchInto(DbCustomer.class);
+    /**
+     * Walks the whole customer table through a server-side cursor, mapping each row like {@link #findPage}.
+     * PostgreSQL only honours the fetch size with auto-commit off, hence the surrounding transaction.
+     */
+    public <T> void streamAll(Function4<Integer, String, String, String, T> mapper, Consumer<T> consumer) {
+        RecordMapper<Record4<Integer, String, String, String>, T> rowMapper = mapping(mapper);
+        reads.read().transaction(configuration -> {
+            try (Cursor<Record4<Integer, String, String, String>> cursor = DSL.using(configuration)
+                    .select(CUSTOMER.CUSTOMER_ID, CUSTOMER.FIRST_NAME, CUSTOMER.LAST_NAME, CUSTOMER.EMAIL)
+                    .from(CUSTOMER)
+                    .orderBy(CUSTOMER.CUSTOMER_ID)
+                    .fetchSize(STREAM_FETCH_SIZE)
+                    .fetchLazy()) {
+                for (var customer : cursor) {
+                    consumer.accept(rowMapper.map(customer));
+                }
+            }
+        });
+    }
+
+    /**
+     * Customer, addresses and invoices with their items in a single statement: each collection is a correlated
+     * {@code MULTISET} that PostgreSQL aggregates into JSON, so there is one round trip and no join fan-out.
+     * Returns {@code null} if there is no such customer.
+     */
+    public DbCustomerOverview findOverview(int customerId) {
+        return overviewQuery(customerId).fetchOne(mapping(DbCustomerOverview::new));
+    }
+
+    ResultQuery<Record3<DbCustomer, List<DbAddress>, List<DbCustomerOverview.DbInvoiceOverview>>> overviewQuery(int customerId) {
+        return reads.read().select(
+                        row(CUSTOMER.CUSTOMER_ID, CUSTOMER.FIRST_NAME, CUSTOMER.LAST_NAME, CUSTOMER.EMAIL).mapping(DbCustomer::new),
+                        multiset(
+                                select(ADDRESS.STREET, ADDRESS.CITY, ADDRESS.COUNTRY)
+                                        .from(ADDRESS)
+                                        .where(ADDRESS.CUSTOMER_ID.eq(CUSTOMER.CUSTOMER_ID))
+                                        .orderBy(ADDRESS.ADDRESS_ID)
+                        ).convertFrom(r -> r.map(mapping(DbAddress::new))),
+                        multiset(
+                                select(INVOICE.INVOICE_ID, INVOICE.INVOICE_DATE, INVOICE.TOTAL_AMOUNT,
+                                        multiset(
+                                                select(INVOICE_ITEM.QUANTITY, INVOICE_ITEM.UNIT_PRICE, PRODUCT.PRODUCT_NAME, PRODUCT.PRICE)
+                                                        .from(INVOICE_ITEM)
+                                                        .join(PRODUCT).on(INVOICE_ITEM.PRODUCT_ID.eq(PRODUCT.PRODUCT_ID))
+                                                        // the date limits each lookup to the invoice's partition
+                                                        .where(INVOICE_ITEM.INVOICE_ID.eq(INVOICE.INVOICE_ID))
+                                                        .and(INVOICE_ITEM.INVOICE_DATE.eq(INVOICE.INVOICE_DATE))
+                                                        .orderBy(INVOICE_ITEM.INVOICE_ITEM_ID)
+                                        ).convertFrom(r -> r.map(mapping(DbInvoiceItem::new))))
+                                        .from(INVOICE)
+                                        .where(INVOICE.CUSTOMER_ID.eq(CUSTOMER.CUSTOMER_ID))
+                                        .orderBy(INVOICE.INVOICE_ID)
+                        ).convertFrom(r -> r.map(mapping(DbCustomerOverview.DbInvoiceOverview::new))))
+                .from(CUSTOMER)
+                .where(CUSTOMER.CUSTOMER_ID.eq(customerId));
+    }
+
+    /**
+     * Invoice count, revenue and last invoice date from {@code customer_summary}, which {@code createInvoice}
+     * keeps up to date: two primary key lookups, however many invoices there are. Returns {@code null} if there
+     * is no such customer.
+     */
+    public DbCustomerSummary findSummary(int customerId) {
+        return summaryQuery(customerId).fetchOne(mapping(DbCustomerSummary::new));
+    }
+
+    ResultQuery<Record4<Integer, Integer, Long, LocalDate>> summaryQuery(int customerId) {
+        // customers without invoices have no summary row yet
+        return reads.read().select(
+                        CUSTOMER.CUSTOMER_ID,
+                        coalesce(CUSTOMER_SUMMARY.INVOICE_COUNT, 0),
+                        coalesce(CUSTOMER_SUMMARY.TOTAL_REVENUE, 0L),
+                        CUSTOMER_SUMMARY.LAST_INVOICE_DATE)
+                .from(CUSTOMER)
+                .leftJoin(CUSTOMER_SUMMARY).on(CUSTOMER_SUMMARY.CUSTOMER_ID.eq(CUSTOMER.CUSTOMER_ID))
+                .where(CUSTOMER.CUSTOMER_ID.eq(customerId));
     }
 
     public DbCustomer create(String firstName, String lastName, String email) {
-        var inserted = dsl.insertInto(CUSTOMER)
-                .set(CUSTOMER.FIRST_NAME, firstName)
-                .set(CUSTOMER.LAST_NAME, lastName)
-                .set(CUSTOMER.EMAIL, email)
-                .returning(CUSTOMER.CUSTOMER_ID)
-                .fetchOne();
-
-        return new DbCustomer(inserted.getValue(CUSTOMER.CUSTOMER_ID), firstName, lastName, email);
+        var write = createWrite(firstName, lastName, email);
+        var customer = write.execute(dsl);
+        write.committed(customer);
+        return customer;
+    }
+
+    /**
+     * {@link #create} as a write for the {@link GroupCommitWriter}. Not measured itself, as it only builds the write; the
+     * writer times the write's executions as calls of {@code create}.
+     */
+    @NoClassInterceptors
+    public GroupCommitWriter.Write<DbCustomer> createWrite(String firstName, String lastName, String email) {
+        return new GroupCommitWriter.Write<>() {
+            @Override
+            public DbCustomer execute(DSLContext ctx) {
+                var inserted = ctx.insertInto(CUSTOMER)
+                        .set(CUSTOMER.FIRST_NAME, firstName)
+                        .set(CUSTOMER.LAST_NAME, lastName)
+                        .set(CUSTOMER.EMAIL, email)
+                        .returning(CUSTOMER.CUSTOMER_ID)
+                        .fetchOne();
+
+                return new DbCustomer(inserted.getValue(CUSTOMER.CUSTOMER_ID), firstName, lastName, email);
+            }
+
+            @Override
+            public Class<?> repository() {
+                return CustomerRepository.class;
+            }
+
+            @Override
+            public String measuredAs() {
+                return "create";
+            }
+
+            @Override
+            public void committed(DbCustomer customer) {
+                versions.bump(Table.CUSTOMER);
+                // a list read from the lagging replica may carry the new version without the new customer
+                reads.repeatAfterWindow(() -> versions.bump(Table.CUSTOMER));
+            }
+        };
     }
 }
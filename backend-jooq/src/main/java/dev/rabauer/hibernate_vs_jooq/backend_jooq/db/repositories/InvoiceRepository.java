@@ -1,80 +1,300 @@
 package dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories;
 
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiNewInvoice;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.CentsConverter;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbInvoice;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbInvoiceItem;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbProductKey;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.TableVersions.Table;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.metrics.MeasuredRepository;
+import io.quarkus.arc.NoClassInterceptors;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
 import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.JSON;
+import org.jooq.Record1;
+import org.jooq.Record3;
+import org.jooq.ResultQuery;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import static dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.CustomerSummary.CUSTOMER_SUMMARY;
 import static dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Invoice.INVOICE;
 import static dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.InvoiceItem.INVOICE_ITEM;
 import static dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Product.PRODUCT;
+import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.DSL.excluded;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.greatest;
+import static org.jooq.impl.DSL.jsonArrayAgg;
+import static org.jooq.impl.DSL.jsonObject;
+import static org.jooq.impl.DSL.key;
+import static org.jooq.impl.DSL.noCondition;
 
 @ApplicationScoped
+@MeasuredRepository
 public class InvoiceRepository {
 
+    public static final String INVOICE_CACHE = "customer-invoices";
+
     private final DSLContext dsl;
+    private final ReadRouter reads;
+    private final ProductRepository productRepository;
+    private final Cache invoiceCache;
+    private final TableVersions versions;
+    private final boolean batchInsert;
+    final QueryTemplate<Integer, DbInvoice> findAllByCustomerId;
+    final QueryTemplate<Integer, DbInvoiceItem> findItemsByInvoiceId;
 
-    public InvoiceRepository(DSLContext dsl) {
+    public InvoiceRepository(DSLContext dsl, ReadRouter reads, ProductRepository productRepository, @CacheName(INVOICE_CACHE) Cache invoiceCache,
+                             TableVersions versions, @ConfigProperty(name = "invoice.batch-insert", defaultValue = "true") boolean batchInsert) {
         this.dsl = dsl;
+        this.reads = reads;
+        this.productRepository = productRepository;
+        this.invoiceCache = invoiceCache;
+        this.versions = versions;
+        this.batchInsert = batchInsert;
+        this.findAllByCustomerId = new QueryTemplate<>(dsl,
+                dsl.select(INVOICE.INVOICE_ID, INVOICE.INVOICE_DATE, INVOICE.TOTAL_AMOUNT)
+                        .from(INVOICE)
+                        .where(INVOICE.CUSTOMER_ID.eq(DSL.param("customerId", Integer.class)))
+                        .orderBy(INVOICE.INVOICE_ID),
+                (statement, customerId) -> statement.setInt(1, customerId),
+                row -> new DbInvoice(row.getInt(1), row.getObject(2, LocalDate.class), CentsConverter.cents(row.getBigDecimal(3))));
+        this.findItemsByInvoiceId = new QueryTemplate<>(dsl,
+                dsl.select(INVOICE_ITEM.QUANTITY, INVOICE_ITEM.UNIT_PRICE, PRODUCT.PRODUCT_NAME, PRODUCT.PRICE)
+                        .from(INVOICE_ITEM)
+                        .join(PRODUCT).on(INVOICE_ITEM.PRODUCT_ID.eq(PRODUCT.PRODUCT_ID))
+                        .where(INVOICE_ITEM.INVOICE_ID.eq(DSL.param("invoiceId", Integer.class)))
+                        .and(INVOICE_ITEM.INVOICE_DATE.eq(invoiceDate(DSL.param("invoiceId", Integer.class))))
+                        .orderBy(INVOICE_ITEM.INVOICE_ITEM_ID),
+                (statement, invoiceId) -> {
+                    statement.setInt(1, invoiceId);
+                    statement.setInt(2, invoiceId);
+                },
+                row -> new DbInvoiceItem(row.getInt(1), CentsConverter.cents(row.getBigDecimal(2)), row.getString(3), CentsConverter.cents(row.getBigDecimal(4))));
     }
 
+    /**
+     * Cached per customer in {@value #INVOICE_CACHE}, {@link #createInvoice} evicts the customer's entry; a client
+     * within its read-your-writes window bypasses the cache, see {@link ReadRouter#cached}.
+     */
     public List<DbInvoice> findAllByCustomerId(int customerId) {
-        return dsl.select(INVOICE.INVOICE_ID, INVOICE.INVOICE_DATE, INVOICE.TOTAL_AMOUNT)
+        return reads.cached(invoiceCache, customerId, id -> findAllByCustomerId.fetch(reads.read(), id));
+    }
+
+    /**
+     * The customer's invoices dated within {@code from} and {@code to}, both inclusive and optional. The bounds on the
+     * partition key let PostgreSQL skip the monthly partitions outside the range. Not cached.
+     */
+    public List<DbInvoice> findAllByCustomerIdBetween(int customerId, LocalDate from, LocalDate to) {
+        return betweenQuery(customerId, from, to)
+                .fetch(row -> new DbInvoice(row.value1(), row.value2(), row.value3()));
+    }
+
+    ResultQuery<Record3<Integer, LocalDate, Long>> betweenQuery(int customerId, LocalDate from, LocalDate to) {
+        Condition dated = noCondition();
+        if (from != null) {
+            dated = dated.and(INVOICE.INVOICE_DATE.ge(from));
+        }
+        if (to != null) {
+            dated = dated.and(INVOICE.INVOICE_DATE.le(to));
+        }
+        return reads.read().select(INVOICE.INVOICE_ID, INVOICE.INVOICE_DATE, INVOICE.TOTAL_AMOUNT)
                 .from(INVOICE)
                 .where(INVOICE.CUSTOMER_ID.eq(customerId))
-                .fetchInto(DbInvoice.class);
+                .and(dated)
+                .orderBy(INVOICE.INVOICE_ID);
     }
 
+    /**
+     * The invoice's lines. Only the invoice's own {@code invoice_item} partition is read, see {@link #invoiceDate}.
+     */
     public List<DbInvoiceItem> findItemsByInvoiceId(int invoiceId) {
-        return dsl.select(INVOICE_ITEM.QUANTITY, INVOICE_ITEM.UNIT_PRICE, PRODUCT.PRODUCT_NAME, PRODUCT.PRICE)
+        return findItemsByInvoiceId.fetch(reads.read(), invoiceId);
+    }
+
+    /**
+     * The invoice detail as a JSON document in the shape of {@code ApiInvoiceDetail}, built by PostgreSQL with
+     * {@code json_build_object}/{@code json_agg}, so no row or DTO objects are created on our side; the price is turned
+     * into cents in SQL as well. {@code null} if there is no such invoice.
+     */
+    public String findDetailJson(int invoiceId) {
+        return detailJsonQuery(invoiceId)
+                .fetchOptional(record -> record.value1().data())
+                .orElse(null);
+    }
+
+    ResultQuery<Record1<JSON>> detailJsonQuery(int invoiceId) {
+        return reads.read().select(jsonObject(
+                        key("items").value(jsonArrayAgg(jsonObject(
+                                key("quantity").value(INVOICE_ITEM.QUANTITY),
+                                key("product").value(jsonObject(
+                                        key("name").value(PRODUCT.PRODUCT_NAME),
+                                        key("priceCents").value(field("({0} * 100)::bigint", SQLDataType.BIGINT, PRODUCT.PRICE))
+                                ))
+                        )).orderBy(INVOICE_ITEM.INVOICE_ITEM_ID))
+                ))
                 .from(INVOICE_ITEM)
                 .join(PRODUCT).on(INVOICE_ITEM.PRODUCT_ID.eq(PRODUCT.PRODUCT_ID))
                 .where(INVOICE_ITEM.INVOICE_ID.eq(invoiceId))
-                .fetchInto(DbInvoiceItem.class);
+                .and(INVOICE_ITEM.INVOICE_DATE.eq(invoiceDate(DSL.val(invoiceId))))
+                // every invoice has items, so no row at all rather than an empty list for an unknown id
+                .having(count().gt(0));
+    }
+
+    /**
+     * The invoice's date, as a condition on the partition key of {@code invoice_item}. An item lookup by
+     * {@code invoice_id} alone reads every monthly partition; with the date from this subquery PostgreSQL prunes all but
+     * the invoice's month when it runs the query. The subquery itself still probes the primary key of every
+     * {@code invoice} partition, as only the id is known.
+     */
+    private static Field<LocalDate> invoiceDate(Field<Integer> invoiceId) {
+        return DSL.field(DSL.select(INVOICE.INVOICE_DATE).from(INVOICE).where(INVOICE.INVOICE_ID.eq(invoiceId)));
     }
 
     public Integer createInvoice(ApiNewInvoice newInvoice) {
-        return dsl.transactionResult(configuration -> {
-            var ctx = org.jooq.impl.DSL.using(configuration);
-
-            // insert invoice
-            var inserted = ctx.insertInto(INVOICE)
-                    .set(INVOICE.CUSTOMER_ID, newInvoice.customerId())
-                    .set(INVOICE.INVOICE_DATE, LocalDate.ofInstant(newInvoice.timestamp(), java.time.ZoneOffset.UTC))
-                    .set(INVOICE.TOTAL_AMOUNT, newInvoice.invoiceItemList().stream()
-                            .map(i -> BigDecimal.valueOf(i.price()).multiply(BigDecimal.valueOf(i.quantity())))
-                            .reduce(BigDecimal.ZERO, BigDecimal::add)
-                    )
-                    .returning(INVOICE.INVOICE_ID)
-                    .fetchOne();
-
-            int invoiceId = inserted.getValue(INVOICE.INVOICE_ID);
-
-            // insert products and items
-            for (var item : newInvoice.invoiceItemList()) {
-                // create product
-                var prod = ctx.insertInto(PRODUCT)
-                        .set(PRODUCT.PRODUCT_NAME, item.productName())
-                        .set(PRODUCT.PRICE, BigDecimal.valueOf(item.price()))
-                        .returning(PRODUCT.PRODUCT_ID)
+        var write = createInvoiceWrite(newInvoice);
+        int invoiceId = dsl.transactionResult(configuration -> write.execute(DSL.using(configuration)));
+        write.committed(invoiceId);
+        return invoiceId;
+    }
+
+    /**
+     * {@link #createInvoice} as a write for the {@link GroupCommitWriter}. Not measured itself, as it only builds the write; the
+     * writer times the write's executions as calls of {@code createInvoice}.
+     */
+    @NoClassInterceptors
+    public GroupCommitWriter.Write<Integer> createInvoiceWrite(ApiNewInvoice newInvoice) {
+        return new GroupCommitWriter.Write<>() {
+            private final Map<DbProductKey, Integer> productIds = new HashMap<>();
+
+            @Override
+            public Integer execute(DSLContext ctx) {
+                // ids of a rolled back attempt must not be cached
+                productIds.clear();
+
+                var invoiceDate = LocalDate.ofInstant(newInvoice.timestamp(), java.time.ZoneOffset.UTC);
+                long totalAmountCents = totalCents(newInvoice.invoiceItemList());
+
+                // insert invoice
+                var inserted = ctx.insertInto(INVOICE)
+                        .set(INVOICE.CUSTOMER_ID, newInvoice.customerId())
+                        .set(INVOICE.INVOICE_DATE, invoiceDate)
+                        .set(INVOICE.TOTAL_AMOUNT, totalAmountCents)
+                        .returning(INVOICE.INVOICE_ID)
                         .fetchOne();
 
-                int productId = prod.getValue(PRODUCT.PRODUCT_ID);
+                int id = inserted.getValue(INVOICE.INVOICE_ID);
+                addToSummary(ctx, newInvoice.customerId(), invoiceDate, totalAmountCents);
+
+                var quantities = quantitiesByProduct(newInvoice.invoiceItemList());
+                if (batchInsert) {
+                    insertItemsBatched(ctx, id, invoiceDate, quantities, productIds);
+                } else {
+                    insertItemsPerRow(ctx, id, invoiceDate, quantities, productIds);
+                }
 
-                ctx.insertInto(INVOICE_ITEM)
-                        .set(INVOICE_ITEM.INVOICE_ID, invoiceId)
-                        .set(INVOICE_ITEM.PRODUCT_ID, productId)
-                        .set(INVOICE_ITEM.QUANTITY, item.quantity())
-                        .set(INVOICE_ITEM.UNIT_PRICE, BigDecimal.valueOf(item.price()))
-                        .execute();
+                return id;
             }
 
-            return invoiceId;
+            @Override
+            public Class<?> repository() {
+                return InvoiceRepository.class;
+            }
+
+            @Override
+            public String measuredAs() {
+                return "createInvoice";
+            }
+
+            @Override
+            public void committed(Integer invoiceId) {
+                // only committed products may be cached
+                productRepository.cache(productIds);
+                // evicted after the commit, so a concurrent read cannot cache the list without the new invoice again
+                invoiceCache.invalidate(newInvoice.customerId()).await().indefinitely();
+                versions.bump(Table.INVOICE);
+                // and again once the replica has replayed the invoice
+                reads.repeatAfterWindow(() -> {
+                    invoiceCache.invalidate(newInvoice.customerId()).await().indefinitely();
+                    versions.bump(Table.INVOICE);
+                });
+            }
+        };
+    }
+
+    /**
+     * Sum of price times quantity over all lines, in cents; overflowing a {@code long} fails instead of wrapping.
+     */
+    public static long totalCents(List<ApiNewInvoice.ApiNewInvoiceItem> items) {
+        long total = 0;
+        for (var item : items) {
+            total = Math.addExact(total, Math.multiplyExact(item.priceCents(), item.quantity()));
+        }
+        return total;
+    }
+
+    // one upsert per invoice; concurrent invoices of the same customer queue up on its summary row until commit
+    private static void addToSummary(DSLContext ctx, int customerId, LocalDate invoiceDate, long totalAmountCents) {
+        ctx.insertInto(CUSTOMER_SUMMARY)
+                .set(CUSTOMER_SUMMARY.CUSTOMER_ID, customerId)
+                .set(CUSTOMER_SUMMARY.INVOICE_COUNT, 1)
+                .set(CUSTOMER_SUMMARY.TOTAL_REVENUE, totalAmountCents)
+                .set(CUSTOMER_SUMMARY.LAST_INVOICE_DATE, invoiceDate)
+                .onConflict(CUSTOMER_SUMMARY.CUSTOMER_ID)
+                .doUpdate()
+                .set(CUSTOMER_SUMMARY.INVOICE_COUNT, CUSTOMER_SUMMARY.INVOICE_COUNT.plus(1))
+                .set(CUSTOMER_SUMMARY.TOTAL_REVENUE, CUSTOMER_SUMMARY.TOTAL_REVENUE.plus(excluded(CUSTOMER_SUMMARY.TOTAL_REVENUE)))
+                .set(CUSTOMER_SUMMARY.LAST_INVOICE_DATE, greatest(CUSTOMER_SUMMARY.LAST_INVOICE_DATE, excluded(CUSTOMER_SUMMARY.LAST_INVOICE_DATE)))
+                .execute();
+    }
+
+    // a product may appear only once per invoice (uq_invoice_product), so lines for the same product are merged
+    private static Map<DbProductKey, Integer> quantitiesByProduct(List<ApiNewInvoice.ApiNewInvoiceItem> items) {
+        Map<DbProductKey, Integer> quantities = new LinkedHashMap<>();
+        for (var item : items) {
+            quantities.merge(ProductRepository.key(item.productName(), item.priceCents()), item.quantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    // up to 1 + 3N statements: the product upsert (plus a lookup if it existed) and the item INSERT per line
+    private void insertItemsPerRow(DSLContext ctx, int invoiceId, LocalDate invoiceDate, Map<DbProductKey, Integer> quantities, Map<DbProductKey, Integer> productIds) {
+        quantities.forEach((product, quantity) -> {
+            productIds.putAll(productRepository.resolveIds(ctx, List.of(product)));
+
+            ctx.insertInto(INVOICE_ITEM)
+                    .set(INVOICE_ITEM.INVOICE_ID, invoiceId)
+                    .set(INVOICE_ITEM.PRODUCT_ID, productIds.get(product))
+                    .set(INVOICE_ITEM.QUANTITY, quantity)
+                    .set(INVOICE_ITEM.UNIT_PRICE, product.priceCents())
+                    .set(INVOICE_ITEM.INVOICE_DATE, invoiceDate)
+                    .execute();
         });
     }
+
+    // at most 4 statements regardless of the line count: the invoice, one multi-row upsert for the uncached
+    // products, one lookup for those that already existed and one multi-row INSERT for all invoice items
+    private void insertItemsBatched(DSLContext ctx, int invoiceId, LocalDate invoiceDate, Map<DbProductKey, Integer> quantities, Map<DbProductKey, Integer> productIds) {
+        productIds.putAll(productRepository.resolveIds(ctx, quantities.keySet()));
+
+        var insertItems = ctx.insertInto(INVOICE_ITEM,
+                INVOICE_ITEM.INVOICE_ID, INVOICE_ITEM.PRODUCT_ID, INVOICE_ITEM.QUANTITY, INVOICE_ITEM.UNIT_PRICE, INVOICE_ITEM.INVOICE_DATE);
+        for (var line : quantities.entrySet()) {
+            var product = line.getKey();
+            insertItems = insertItems.values(invoiceId, productIds.get(product), line.getValue(), product.priceCents(), invoiceDate);
+        }
+        insertItems.execute();
+    }
 }
@@ -0,0 +1,93 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories;
+
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbProductKey;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.metrics.MeasuredRepository;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jooq.DSLContext;
+import org.jooq.Record3;
+import org.jooq.ResultQuery;
+import org.jooq.impl.DSL;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Product.PRODUCT;
+
+/**
+ * Products are unique by name and price. Ids are resolved through a bounded in-process cache
+ * ({@value #PRODUCT_ID_CACHE}) and an {@code INSERT ... ON CONFLICT DO NOTHING RETURNING} for the misses.
+ */
+@ApplicationScoped
+@MeasuredRepository
+public class ProductRepository {
+
+    public static final String PRODUCT_ID_CACHE = "product-ids";
+
+    private final CaffeineCache productIds;
+
+    public ProductRepository(@CacheName(PRODUCT_ID_CACHE) Cache productIds) {
+        this.productIds = productIds.as(CaffeineCache.class);
+    }
+
+    public static DbProductKey key(String name, long priceCents) {
+        return new DbProductKey(name, priceCents);
+    }
+
+    /**
+     * Returns the id of every product, creating unknown ones in {@code ctx}'s transaction. The result must
+     * only be passed to {@link #cache(Map)} after that transaction committed, otherwise a rolled-back
+     * insert would leave a dangling id in the cache.
+     */
+    public Map<DbProductKey, Integer> resolveIds(DSLContext ctx, Collection<DbProductKey> keys) {
+        Map<DbProductKey, Integer> ids = new HashMap<>();
+        List<DbProductKey> misses = new ArrayList<>();
+        for (var key : keys) {
+            CompletableFuture<Integer> cached = productIds.getIfPresent(key);
+            if (cached != null) {
+                ids.put(key, cached.join());
+            } else {
+                misses.add(key);
+            }
+        }
+        if (misses.isEmpty()) {
+            return ids;
+        }
+
+        // sorted so concurrent writers take the unique index locks in the same order
+        misses.sort(Comparator.comparing(DbProductKey::name).thenComparingLong(DbProductKey::priceCents));
+        ctx.insertInto(PRODUCT, PRODUCT.PRODUCT_NAME, PRODUCT.PRICE)
+                .valuesOfRows(misses.stream().map(k -> DSL.row(k.name(), k.priceCents())).toList())
+                .onConflictDoNothing()
+                .returning(PRODUCT.PRODUCT_ID, PRODUCT.PRODUCT_NAME, PRODUCT.PRICE)
+                .fetch()
+                .forEach(r -> ids.put(new DbProductKey(r.getProductName(), r.getPrice()), r.getProductId()));
+
+        // ON CONFLICT DO NOTHING returns nothing for products that already existed
+        var existing = misses.stream().filter(k -> !ids.containsKey(k)).toList();
+        if (!existing.isEmpty()) {
+            existingQuery(ctx, existing)
+                    .fetch()
+                    .forEach(r -> ids.put(new DbProductKey(r.value2(), r.value3()), r.value1()));
+        }
+        return ids;
+    }
+
+    static ResultQuery<Record3<Integer, String, Long>> existingQuery(DSLContext ctx, Collection<DbProductKey> keys) {
+        return ctx.select(PRODUCT.PRODUCT_ID, PRODUCT.PRODUCT_NAME, PRODUCT.PRICE)
+                .from(PRODUCT)
+                .where(DSL.row(PRODUCT.PRODUCT_NAME, PRODUCT.PRICE)
+                        .in(keys.stream().map(k -> DSL.row(k.name(), k.priceCents())).toList()));
+    }
+
+    public void cache(Map<DbProductKey, Integer> ids) {
+        ids.forEach((key, id) -> productIds.put(key, CompletableFuture.completedFuture(id)));
+    }
+}
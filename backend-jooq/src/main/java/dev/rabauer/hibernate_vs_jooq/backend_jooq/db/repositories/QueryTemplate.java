@@ -0,0 +1,76 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories;
+
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.metrics.StatementStatistics;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A read query rendered to SQL once and afterwards executed with plain JDBC: a call only sets the bind values and
+ * maps the rows, no jOOQ query tree is built or rendered. pgjdbc keeps the server-side prepared statement per
+ * connection, keyed by the SQL string, so reusing the very same string also skips parsing and planning. As jOOQ's
+ * execute listeners don't see these executions, they are counted in the {@link StatementStatistics} of the
+ * {@link DSLContext} directly.
+ *
+ * @param <P> the bind parameters
+ * @param <T> one mapped row
+ */
+final class QueryTemplate<P, T> {
+
+    @FunctionalInterface
+    interface Binder<P> {
+        void bind(PreparedStatement statement, P parameters) throws SQLException;
+    }
+
+    @FunctionalInterface
+    interface RowMapper<T> {
+        T map(ResultSet row) throws SQLException;
+    }
+
+    private final String sql;
+    private final Binder<P> binder;
+    private final RowMapper<T> mapper;
+    // null without statistics, e.g. in the benchmarks
+    private final StatementStatistics.Fingerprint fingerprint;
+
+    /**
+     * Renders {@code query}, whose bind values must be placeholders in the order {@code binder} sets them.
+     */
+    QueryTemplate(DSLContext dsl, Query query, Binder<P> binder, RowMapper<T> mapper) {
+        this.sql = dsl.render(query);
+        this.binder = binder;
+        this.mapper = mapper;
+        StatementStatistics statistics = StatementStatistics.of(dsl.configuration());
+        this.fingerprint = statistics != null ? statistics.fingerprint(sql) : null;
+    }
+
+    List<T> fetch(DSLContext dsl, P parameters) {
+        return dsl.connectionResult(connection -> {
+            long start = System.nanoTime();
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                binder.bind(statement, parameters);
+                try (ResultSet rows = statement.executeQuery()) {
+                    List<T> result = new ArrayList<>();
+                    while (rows.next()) {
+                        result.add(mapper.map(rows));
+                    }
+                    if (fingerprint != null) {
+                        fingerprint.record(sql, System.nanoTime() - start, result.size(), () -> parameters);
+                    }
+                    // results may end up in a shared cache
+                    return Collections.unmodifiableList(result);
+                }
+            }
+        });
+    }
+
+    String sql() {
+        return sql;
+    }
+}
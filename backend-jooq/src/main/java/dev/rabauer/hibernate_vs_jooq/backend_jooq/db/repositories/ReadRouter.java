@@ -0,0 +1,93 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.Cache;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jooq.DSLContext;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Picks the {@link DSLContext} for read-only queries: the {@value #REPLICA} datasource, a streaming replica of the
+ * primary, unless the request comes from a client that wrote within the read-your-writes window. Such a request
+ * reads from the primary, so replication lag never hides the client's own changes. Writes always use the default
+ * {@link DSLContext}.
+ */
+@ApplicationScoped
+public class ReadRouter {
+
+    public static final String REPLICA = "replica";
+
+    private final DSLContext primary;
+    private final DSLContext replica;
+    private final ReadYourWrites readYourWrites;
+    private final Duration readYourWritesWindow;
+
+    @Inject
+    public ReadRouter(DSLContext primary, @DataSource(REPLICA) AgroalDataSource replicaDataSource, ReadYourWrites readYourWrites,
+                      @ConfigProperty(name = "replica.read-your-writes-window", defaultValue = "5s") Duration readYourWritesWindow) {
+        this.primary = primary;
+        // derived, so the replica shares dialect, settings and listeners with the primary
+        this.replica = primary.configuration().derive(replicaDataSource).dsl();
+        this.readYourWrites = readYourWrites;
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    /**
+     * Routes reads to {@code replica} without any stickiness, e.g. outside of the application.
+     */
+    public ReadRouter(DSLContext primary, DSLContext replica) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWrites = null;
+        this.readYourWritesWindow = Duration.ZERO;
+    }
+
+    public DSLContext read() {
+        return primaryRequired() ? primary : replica;
+    }
+
+    /**
+     * {@code load} through {@code cache}, except for requests that read from the primary: their client has just
+     * written, and the entry may be the state from before the write, cached by another client's read on the lagging
+     * replica after the write's eviction. Those requests neither read nor fill the cache. Without a cache, e.g.
+     * outside of the application, always {@code load}s.
+     */
+    public <K, V> V cached(Cache cache, K key, Function<K, V> load) {
+        if (cache == null || primaryRequired()) {
+            return load.apply(key);
+        }
+        return cache.get(key, load).await().indefinitely();
+    }
+
+    /**
+     * How long after a write a client keeps reading from the primary; also the assumed upper bound of the
+     * replication lag.
+     */
+    public Duration readYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    /**
+     * Runs {@code action} again once the window has passed, for cache evictions: a read on the lagging replica
+     * may have cached the state from before the write in the meantime.
+     */
+    public void repeatAfterWindow(Runnable action) {
+        if (!readYourWritesWindow.isZero()) {
+            CompletableFuture.delayedExecutor(readYourWritesWindow.toMillis(), TimeUnit.MILLISECONDS).execute(action);
+        }
+    }
+
+    private boolean primaryRequired() {
+        return readYourWrites != null
+                && Arc.container().requestContext().isActive()
+                && readYourWrites.primaryRequired();
+    }
+}
@@ -0,0 +1,21 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories;
+
+import jakarta.enterprise.context.RequestScoped;
+
+/**
+ * Whether the current request has to read from the primary because its client wrote within the
+ * read-your-writes window, see {@link ReadRouter}.
+ */
+@RequestScoped
+public class ReadYourWrites {
+
+    private boolean primaryRequired;
+
+    public boolean primaryRequired() {
+        return primaryRequired;
+    }
+
+    public void requirePrimary() {
+        this.primaryRequired = true;
+    }
+}
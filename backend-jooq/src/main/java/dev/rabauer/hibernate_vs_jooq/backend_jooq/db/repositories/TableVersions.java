@@ -0,0 +1,52 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Change counters per table, bumped by the repositories after every committed write, for ETags that can be checked
+ * without a query. The counters live in this process only: they start over on every start, which the random epoch
+ * in {@link #version} accounts for, and writes that bypass this application (another instance, {@code psql}) go
+ * unnoticed.
+ */
+@ApplicationScoped
+public class TableVersions {
+
+    public enum Table {
+        CUSTOMER, ADDRESS, INVOICE
+    }
+
+    private final String epoch = Integer.toHexString(ThreadLocalRandom.current().nextInt());
+    private final Map<Table, AtomicLong> counters = new EnumMap<>(Table.class);
+
+    public TableVersions() {
+        for (Table table : Table.values()) {
+            counters.put(table, new AtomicLong());
+        }
+    }
+
+    /**
+     * An opaque version of the given tables, which changes with every write to any of them. Read it before the
+     * query it describes, so a write racing with that query makes the version outdated rather than the data.
+     */
+    public String version(Table... tables) {
+        return Arrays.stream(tables)
+                .map(table -> Long.toString(counters.get(table).get()))
+                .collect(Collectors.joining(".", epoch + "-", ""));
+    }
+
+    /**
+     * Call after the write to {@code tables} has committed.
+     */
+    public void bump(Table... tables) {
+        for (Table table : tables) {
+            counters.get(table).incrementAndGet();
+        }
+    }
+}
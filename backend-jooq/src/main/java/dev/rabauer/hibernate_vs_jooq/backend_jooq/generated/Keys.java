@@ -6,11 +6,13 @@ package dev.rabauer.hibernate_vs_jooq.backend_jooq.generated;
 
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Address;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Customer;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.CustomerSummary;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Invoice;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.InvoiceItem;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Product;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.records.AddressRecord;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.records.CustomerRecord;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.records.CustomerSummaryRecord;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.records.InvoiceItemRecord;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.records.InvoiceRecord;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.records.ProductRecord;
@@ -36,17 +38,20 @@ public class Keys {
     public static final UniqueKey<AddressRecord> ADDRESS_PKEY = Internal.createUniqueKey(Address.ADDRESS, DSL.name("address_pkey"), new TableField[] { Address.ADDRESS.ADDRESS_ID }, true);
     public static final UniqueKey<CustomerRecord> CUSTOMER_EMAIL_KEY = Internal.createUniqueKey(Customer.CUSTOMER, DSL.name("customer_email_key"), new TableField[] { Customer.CUSTOMER.EMAIL }, true);
     public static final UniqueKey<CustomerRecord> CUSTOMER_PKEY = Internal.createUniqueKey(Customer.CUSTOMER, DSL.name("customer_pkey"), new TableField[] { Customer.CUSTOMER.CUSTOMER_ID }, true);
-    public static final UniqueKey<InvoiceRecord> INVOICE_PKEY = Internal.createUniqueKey(Invoice.INVOICE, DSL.name("invoice_pkey"), new TableField[] { Invoice.INVOICE.INVOICE_ID }, true);
-    public static final UniqueKey<InvoiceItemRecord> INVOICE_ITEM_PKEY = Internal.createUniqueKey(InvoiceItem.INVOICE_ITEM, DSL.name("invoice_item_pkey"), new TableField[] { InvoiceItem.INVOICE_ITEM.INVOICE_ITEM_ID }, true);
-    public static final UniqueKey<InvoiceItemRecord> UQ_INVOICE_PRODUCT = Internal.createUniqueKey(InvoiceItem.INVOICE_ITEM, DSL.name("uq_invoice_product"), new TableField[] { InvoiceItem.INVOICE_ITEM.INVOICE_ID, InvoiceItem.INVOICE_ITEM.PRODUCT_ID }, true);
+    public static final UniqueKey<CustomerSummaryRecord> CUSTOMER_SUMMARY_PKEY = Internal.createUniqueKey(CustomerSummary.CUSTOMER_SUMMARY, DSL.name("customer_summary_pkey"), new TableField[] { CustomerSummary.CUSTOMER_SUMMARY.CUSTOMER_ID }, true);
+    public static final UniqueKey<InvoiceRecord> INVOICE_PKEY = Internal.createUniqueKey(Invoice.INVOICE, DSL.name("invoice_pkey"), new TableField[] { Invoice.INVOICE.INVOICE_ID, Invoice.INVOICE.INVOICE_DATE }, true);
+    public static final UniqueKey<InvoiceItemRecord> INVOICE_ITEM_PKEY = Internal.createUniqueKey(InvoiceItem.INVOICE_ITEM, DSL.name("invoice_item_pkey"), new TableField[] { InvoiceItem.INVOICE_ITEM.INVOICE_ITEM_ID, InvoiceItem.INVOICE_ITEM.INVOICE_DATE }, true);
+    public static final UniqueKey<InvoiceItemRecord> UQ_INVOICE_PRODUCT = Internal.createUniqueKey(InvoiceItem.INVOICE_ITEM, DSL.name("uq_invoice_product"), new TableField[] { InvoiceItem.INVOICE_ITEM.INVOICE_ID, InvoiceItem.INVOICE_ITEM.PRODUCT_ID, InvoiceItem.INVOICE_ITEM.INVOICE_DATE }, true);
     public static final UniqueKey<ProductRecord> PRODUCT_PKEY = Internal.createUniqueKey(Product.PRODUCT, DSL.name("product_pkey"), new TableField[] { Product.PRODUCT.PRODUCT_ID }, true);
+    public static final UniqueKey<ProductRecord> UQ_PRODUCT_NAME_PRICE = Internal.createUniqueKey(Product.PRODUCT, DSL.name("uq_product_name_price"), new TableField[] { Product.PRODUCT.PRODUCT_NAME, Product.PRODUCT.PRICE }, true);
 
     // -------------------------------------------------------------------------
     // FOREIGN KEY definitions
     // -------------------------------------------------------------------------
 
     public static final ForeignKey<AddressRecord, CustomerRecord> ADDRESS__FK_ADDRESS_CUSTOMER = Internal.createForeignKey(Address.ADDRESS, DSL.name("fk_address_customer"), new TableField[] { Address.ADDRESS.CUSTOMER_ID }, Keys.CUSTOMER_PKEY, new TableField[] { Customer.CUSTOMER.CUSTOMER_ID }, true);
+    public static final ForeignKey<CustomerSummaryRecord, CustomerRecord> CUSTOMER_SUMMARY__FK_CUSTOMER_SUMMARY_CUSTOMER = Internal.createForeignKey(CustomerSummary.CUSTOMER_SUMMARY, DSL.name("fk_customer_summary_customer"), new TableField[] { CustomerSummary.CUSTOMER_SUMMARY.CUSTOMER_ID }, Keys.CUSTOMER_PKEY, new TableField[] { Customer.CUSTOMER.CUSTOMER_ID }, true);
     public static final ForeignKey<InvoiceRecord, CustomerRecord> INVOICE__FK_INVOICE_CUSTOMER = Internal.createForeignKey(Invoice.INVOICE, DSL.name("fk_invoice_customer"), new TableField[] { Invoice.INVOICE.CUSTOMER_ID }, Keys.CUSTOMER_PKEY, new TableField[] { Customer.CUSTOMER.CUSTOMER_ID }, true);
-    public static final ForeignKey<InvoiceItemRecord, InvoiceRecord> INVOICE_ITEM__FK_INVOICE_ITEM_INVOICE = Internal.createForeignKey(InvoiceItem.INVOICE_ITEM, DSL.name("fk_invoice_item_invoice"), new TableField[] { InvoiceItem.INVOICE_ITEM.INVOICE_ID }, Keys.INVOICE_PKEY, new TableField[] { Invoice.INVOICE.INVOICE_ID }, true);
+    public static final ForeignKey<InvoiceItemRecord, InvoiceRecord> INVOICE_ITEM__FK_INVOICE_ITEM_INVOICE = Internal.createForeignKey(InvoiceItem.INVOICE_ITEM, DSL.name("fk_invoice_item_invoice"), new TableField[] { InvoiceItem.INVOICE_ITEM.INVOICE_ID, InvoiceItem.INVOICE_ITEM.INVOICE_DATE }, Keys.INVOICE_PKEY, new TableField[] { Invoice.INVOICE.INVOICE_ID, Invoice.INVOICE.INVOICE_DATE }, true);
     public static final ForeignKey<InvoiceItemRecord, ProductRecord> INVOICE_ITEM__FK_INVOICE_ITEM_PRODUCT = Internal.createForeignKey(InvoiceItem.INVOICE_ITEM, DSL.name("fk_invoice_item_product"), new TableField[] { InvoiceItem.INVOICE_ITEM.PRODUCT_ID }, Keys.PRODUCT_PKEY, new TableField[] { Product.PRODUCT.PRODUCT_ID }, true);
 }
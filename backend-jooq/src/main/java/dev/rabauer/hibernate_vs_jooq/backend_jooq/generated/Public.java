@@ -6,6 +6,7 @@ package dev.rabauer.hibernate_vs_jooq.backend_jooq.generated;
 
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Address;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Customer;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.CustomerSummary;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Invoice;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.InvoiceItem;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Product;
@@ -14,6 +15,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.jooq.Catalog;
+import org.jooq.Sequence;
 import org.jooq.Table;
 import org.jooq.impl.SchemaImpl;
 
@@ -41,6 +43,11 @@ public class Public extends SchemaImpl {
      */
     public final Customer CUSTOMER = Customer.CUSTOMER;
 
+    /**
+     * The table <code>public.customer_summary</code>.
+     */
+    public final CustomerSummary CUSTOMER_SUMMARY = CustomerSummary.CUSTOMER_SUMMARY;
+
     /**
      * The table <code>public.invoice</code>.
      */
@@ -69,11 +76,28 @@ public class Public extends SchemaImpl {
         return DefaultCatalog.DEFAULT_CATALOG;
     }
 
+    @Override
+    public final List<Sequence<?>> getSequences() {
+        return Arrays.asList(
+            Sequences.ADDRESS_ID_SEQ,
+            Sequences.ADDRESS_SEQ,
+            Sequences.CUSTOMER_ID_SEQ,
+            Sequences.CUSTOMER_SEQ,
+            Sequences.INVOICE_ID_SEQ,
+            Sequences.INVOICE_ITEM_ID_SEQ,
+            Sequences.INVOICE_ITEM_SEQ,
+            Sequences.INVOICE_SEQ,
+            Sequences.PRODUCT_ID_SEQ,
+            Sequences.PRODUCT_SEQ
+        );
+    }
+
     @Override
     public final List<Table<?>> getTables() {
         return Arrays.asList(
             Address.ADDRESS,
             Customer.CUSTOMER,
+            CustomerSummary.CUSTOMER_SUMMARY,
             Invoice.INVOICE,
             InvoiceItem.INVOICE_ITEM,
             Product.PRODUCT
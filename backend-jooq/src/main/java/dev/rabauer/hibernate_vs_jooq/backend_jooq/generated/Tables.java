@@ -6,6 +6,7 @@ package dev.rabauer.hibernate_vs_jooq.backend_jooq.generated;
 
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Address;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Customer;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.CustomerSummary;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Invoice;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.InvoiceItem;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Product;
@@ -27,6 +28,11 @@ public class Tables {
      */
     public static final Customer CUSTOMER = Customer.CUSTOMER;
 
+    /**
+     * The table <code>public.customer_summary</code>.
+     */
+    public static final CustomerSummary CUSTOMER_SUMMARY = CustomerSummary.CUSTOMER_SUMMARY;
+
     /**
      * The table <code>public.invoice</code>.
      */
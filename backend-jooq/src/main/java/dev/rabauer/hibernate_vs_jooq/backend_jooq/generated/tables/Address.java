@@ -4,6 +4,7 @@
 package dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables;
 
 
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.Indexes;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.Keys;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.Public;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Customer.CustomerPath;
@@ -17,6 +18,7 @@ import org.jooq.Condition;
 import org.jooq.Field;
 import org.jooq.ForeignKey;
 import org.jooq.Identity;
+import org.jooq.Index;
 import org.jooq.InverseForeignKey;
 import org.jooq.Name;
 import org.jooq.Path;
@@ -149,6 +151,11 @@ public class Address extends TableImpl<AddressRecord> {
         return aliased() ? null : Public.PUBLIC;
     }
 
+    @Override
+    public List<Index> getIndexes() {
+        return Arrays.asList(Indexes.IX_ADDRESS_CUSTOMER);
+    }
+
     @Override
     public Identity<AddressRecord, Integer> getIdentity() {
         return (Identity<AddressRecord, Integer>) super.getIdentity();
@@ -7,6 +7,7 @@ package dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.Keys;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.Public;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Address.AddressPath;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.CustomerSummary.CustomerSummaryPath;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Invoice.InvoicePath;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.records.CustomerRecord;
 
@@ -173,6 +174,19 @@ public class Customer extends TableImpl<CustomerRecord> {
         return _address;
     }
 
+    private transient CustomerSummaryPath _customerSummary;
+
+    /**
+     * Get the implicit to-many join path to the
+     * <code>public.customer_summary</code> table
+     */
+    public CustomerSummaryPath customerSummary() {
+        if (_customerSummary == null)
+            _customerSummary = new CustomerSummaryPath(this, null, Keys.CUSTOMER_SUMMARY__FK_CUSTOMER_SUMMARY_CUSTOMER.getInverseKey());
+
+        return _customerSummary;
+    }
+
     private transient InvoicePath _invoice;
 
     /**
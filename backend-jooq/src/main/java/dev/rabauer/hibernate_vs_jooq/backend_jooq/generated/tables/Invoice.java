@@ -4,6 +4,8 @@
 package dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables;
 
 
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.CentsConverter;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.Indexes;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.Keys;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.Public;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Customer.CustomerPath;
@@ -11,7 +13,6 @@ import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.InvoiceItem.I
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Product.ProductPath;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.records.InvoiceRecord;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
@@ -22,6 +23,7 @@ import org.jooq.Condition;
 import org.jooq.Field;
 import org.jooq.ForeignKey;
 import org.jooq.Identity;
+import org.jooq.Index;
 import org.jooq.InverseForeignKey;
 import org.jooq.Name;
 import org.jooq.Path;
@@ -81,7 +83,7 @@ public class Invoice extends TableImpl<InvoiceRecord> {
     /**
      * The column <code>public.invoice.total_amount</code>.
      */
-    public final TableField<InvoiceRecord, BigDecimal> TOTAL_AMOUNT = createField(DSL.name("total_amount"), SQLDataType.NUMERIC(14, 2).nullable(false), this, "");
+    public final TableField<InvoiceRecord, Long> TOTAL_AMOUNT = createField(DSL.name("total_amount"), SQLDataType.NUMERIC(14, 2).nullable(false), this, "", new CentsConverter());
 
     private Invoice(Name alias, Table<InvoiceRecord> aliased) {
         this(alias, aliased, (Field<?>[]) null, null);
@@ -150,6 +152,11 @@ public class Invoice extends TableImpl<InvoiceRecord> {
         return aliased() ? null : Public.PUBLIC;
     }
 
+    @Override
+    public List<Index> getIndexes() {
+        return Arrays.asList(Indexes.IX_INVOICE_CUSTOMER);
+    }
+
     @Override
     public Identity<InvoiceRecord, Integer> getIdentity() {
         return (Identity<InvoiceRecord, Integer>) super.getIdentity();
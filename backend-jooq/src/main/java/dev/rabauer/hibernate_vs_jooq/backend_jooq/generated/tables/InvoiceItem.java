@@ -4,13 +4,14 @@
 package dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables;
 
 
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.CentsConverter;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.Keys;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.Public;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Invoice.InvoicePath;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Product.ProductPath;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.records.InvoiceItemRecord;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -84,7 +85,12 @@ public class InvoiceItem extends TableImpl<InvoiceItemRecord> {
     /**
      * The column <code>public.invoice_item.unit_price</code>.
      */
-    public final TableField<InvoiceItemRecord, BigDecimal> UNIT_PRICE = createField(DSL.name("unit_price"), SQLDataType.NUMERIC(12, 2).nullable(false), this, "");
+    public final TableField<InvoiceItemRecord, Long> UNIT_PRICE = createField(DSL.name("unit_price"), SQLDataType.NUMERIC(12, 2).nullable(false), this, "", new CentsConverter());
+
+    /**
+     * The column <code>public.invoice_item.invoice_date</code>.
+     */
+    public final TableField<InvoiceItemRecord, LocalDate> INVOICE_DATE = createField(DSL.name("invoice_date"), SQLDataType.LOCALDATE.nullable(false), this, "");
 
     private InvoiceItem(Name alias, Table<InvoiceItemRecord> aliased) {
         this(alias, aliased, (Field<?>[]) null, null);
@@ -4,13 +4,13 @@
 package dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables;
 
 
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.CentsConverter;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.Keys;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.Public;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Invoice.InvoicePath;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.InvoiceItem.InvoiceItemPath;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.records.ProductRecord;
 
-import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -74,7 +74,7 @@ public class Product extends TableImpl<ProductRecord> {
     /**
      * The column <code>public.product.price</code>.
      */
-    public final TableField<ProductRecord, BigDecimal> PRICE = createField(DSL.name("price"), SQLDataType.NUMERIC(12, 2).nullable(false), this, "");
+    public final TableField<ProductRecord, Long> PRICE = createField(DSL.name("price"), SQLDataType.NUMERIC(12, 2).nullable(false), this, "", new CentsConverter());
 
     private Product(Name alias, Table<ProductRecord> aliased) {
         this(alias, aliased, (Field<?>[]) null, null);
@@ -153,6 +153,11 @@ public class Product extends TableImpl<ProductRecord> {
         return Keys.PRODUCT_PKEY;
     }
 
+    @Override
+    public List<UniqueKey<ProductRecord>> getUniqueKeys() {
+        return Arrays.asList(Keys.UQ_PRODUCT_NAME_PRICE);
+    }
+
     private transient InvoiceItemPath _invoiceItem;
 
     /**
@@ -6,9 +6,9 @@ package dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.records;
 
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.InvoiceItem;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
 
-import org.jooq.Record1;
+import org.jooq.Record2;
 import org.jooq.impl.UpdatableRecordImpl;
 
 
@@ -79,15 +79,29 @@ public class InvoiceItemRecord extends UpdatableRecordImpl<InvoiceItemRecord> {
     /**
      * Setter for <code>public.invoice_item.unit_price</code>.
      */
-    public void setUnitPrice(BigDecimal value) {
+    public void setUnitPrice(Long value) {
         set(4, value);
     }
 
     /**
      * Getter for <code>public.invoice_item.unit_price</code>.
      */
-    public BigDecimal getUnitPrice() {
-        return (BigDecimal) get(4);
+    public Long getUnitPrice() {
+        return (Long) get(4);
+    }
+
+    /**
+     * Setter for <code>public.invoice_item.invoice_date</code>.
+     */
+    public void setInvoiceDate(LocalDate value) {
+        set(5, value);
+    }
+
+    /**
+     * Getter for <code>public.invoice_item.invoice_date</code>.
+     */
+    public LocalDate getInvoiceDate() {
+        return (LocalDate) get(5);
     }
 
     // -------------------------------------------------------------------------
@@ -95,8 +109,8 @@ public class InvoiceItemRecord extends UpdatableRecordImpl<InvoiceItemRecord> {
     // -------------------------------------------------------------------------
 
     @Override
-    public Record1<Integer> key() {
-        return (Record1) super.key();
+    public Record2<Integer, LocalDate> key() {
+        return (Record2) super.key();
     }
 
     // -------------------------------------------------------------------------
@@ -113,7 +127,7 @@ public class InvoiceItemRecord extends UpdatableRecordImpl<InvoiceItemRecord> {
     /**
      * Create a detached, initialised InvoiceItemRecord
      */
-    public InvoiceItemRecord(Integer invoiceItemId, Integer invoiceId, Integer productId, Integer quantity, BigDecimal unitPrice) {
+    public InvoiceItemRecord(Integer invoiceItemId, Integer invoiceId, Integer productId, Integer quantity, Long unitPrice, LocalDate invoiceDate) {
         super(InvoiceItem.INVOICE_ITEM);
 
         setInvoiceItemId(invoiceItemId);
@@ -121,6 +135,7 @@ public class InvoiceItemRecord extends UpdatableRecordImpl<InvoiceItemRecord> {
         setProductId(productId);
         setQuantity(quantity);
         setUnitPrice(unitPrice);
+        setInvoiceDate(invoiceDate);
         resetChangedOnNotNull();
     }
 }
@@ -6,10 +6,9 @@ package dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.records;
 
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Invoice;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
-import org.jooq.Record1;
+import org.jooq.Record2;
 import org.jooq.impl.UpdatableRecordImpl;
 
 
@@ -66,15 +65,15 @@ public class InvoiceRecord extends UpdatableRecordImpl<InvoiceRecord> {
     /**
      * Setter for <code>public.invoice.total_amount</code>.
      */
-    public void setTotalAmount(BigDecimal value) {
+    public void setTotalAmount(Long value) {
         set(3, value);
     }
 
     /**
      * Getter for <code>public.invoice.total_amount</code>.
      */
-    public BigDecimal getTotalAmount() {
-        return (BigDecimal) get(3);
+    public Long getTotalAmount() {
+        return (Long) get(3);
     }
 
     // -------------------------------------------------------------------------
@@ -82,8 +81,8 @@ public class InvoiceRecord extends UpdatableRecordImpl<InvoiceRecord> {
     // -------------------------------------------------------------------------
 
     @Override
-    public Record1<Integer> key() {
-        return (Record1) super.key();
+    public Record2<Integer, LocalDate> key() {
+        return (Record2) super.key();
     }
 
     // -------------------------------------------------------------------------
@@ -100,7 +99,7 @@ public class InvoiceRecord extends UpdatableRecordImpl<InvoiceRecord> {
     /**
      * Create a detached, initialised InvoiceRecord
      */
-    public InvoiceRecord(Integer invoiceId, Integer customerId, LocalDate invoiceDate, BigDecimal totalAmount) {
+    public InvoiceRecord(Integer invoiceId, Integer customerId, LocalDate invoiceDate, Long totalAmount) {
         super(Invoice.INVOICE);
 
         setInvoiceId(invoiceId);
@@ -6,8 +6,6 @@ package dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.records;
 
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Product;
 
-import java.math.BigDecimal;
-
 import org.jooq.Record1;
 import org.jooq.impl.UpdatableRecordImpl;
 
@@ -51,15 +49,15 @@ public class ProductRecord extends UpdatableRecordImpl<ProductRecord> {
     /**
      * Setter for <code>public.product.price</code>.
      */
-    public void setPrice(BigDecimal value) {
+    public void setPrice(Long value) {
         set(2, value);
     }
 
     /**
      * Getter for <code>public.product.price</code>.
      */
-    public BigDecimal getPrice() {
-        return (BigDecimal) get(2);
+    public Long getPrice() {
+        return (Long) get(2);
     }
 
     // -------------------------------------------------------------------------
@@ -85,7 +83,7 @@ public class ProductRecord extends UpdatableRecordImpl<ProductRecord> {
     /**
      * Create a detached, initialised ProductRecord
      */
-    public ProductRecord(Integer productId, String productName, BigDecimal price) {
+    public ProductRecord(Integer productId, String productName, Long price) {
         super(Product.PRODUCT);
 
         setProductId(productId);
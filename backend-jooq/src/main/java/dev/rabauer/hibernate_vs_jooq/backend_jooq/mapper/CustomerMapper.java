@@ -1,7 +1,17 @@
 package dev.rabauer.hibernate_vs_jooq.backend_jooq.mapper;
 
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiBulkCustomer;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiBulkImportResult;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiCustomer;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiCustomerOverview;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiCustomerSummary;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbCustomer;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbCustomerImport;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbCustomerOverview;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbCustomerSummary;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbImportResult;
+
+import java.time.ZoneOffset;
 
 public final class CustomerMapper {
 
@@ -16,4 +26,45 @@ public final class CustomerMapper {
                 dbCustomer.email()
         );
     }
+
+    public static ApiCustomerOverview dbToApi(DbCustomerOverview dbOverview) {
+        return new ApiCustomerOverview(
+                dbToApi(dbOverview.customer()),
+                dbOverview.addresses().stream().map(AddressMapper::dbToApi).toList(),
+                dbOverview.invoices().stream().map(InvoiceMapper::dbToApi).toList()
+        );
+    }
+
+    public static ApiCustomerSummary dbToApi(DbCustomerSummary dbSummary) {
+        var lastInvoice = dbSummary.lastInvoiceDate();
+        return new ApiCustomerSummary(
+                dbSummary.customerId(),
+                dbSummary.invoiceCount(),
+                dbSummary.totalRevenueCents(),
+                lastInvoice == null ? null : lastInvoice.atStartOfDay().toInstant(ZoneOffset.UTC)
+        );
+    }
+
+    public static DbCustomerImport apiToDbImport(ApiBulkCustomer apiCustomer) {
+        var address = apiCustomer.address();
+        return new DbCustomerImport(
+                apiCustomer.firstName(),
+                apiCustomer.lastName(),
+                apiCustomer.email(),
+                address == null ? null : address.street(),
+                address == null ? null : address.city(),
+                address == null ? null : address.country()
+        );
+    }
+
+    public static ApiBulkImportResult dbToApi(DbImportResult dbResult) {
+        return new ApiBulkImportResult(
+                dbResult.received(),
+                dbResult.imported(),
+                dbResult.rejected(),
+                dbResult.rejectedRows().stream()
+                        .map(r -> new ApiBulkImportResult.ApiRejectedRow(r.line(), r.email(), r.reason()))
+                        .toList()
+        );
+    }
 }
@@ -0,0 +1,18 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.metrics;
+
+import jakarta.interceptor.InterceptorBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Times every call of the annotated repository and counts the rows of the lists it returns, see
+ * {@link RepositoryMetricsInterceptor}.
+ */
+@InterceptorBinding
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MeasuredRepository {
+}
@@ -0,0 +1,282 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.metrics;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.jooq.Configuration;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteListenerProvider;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Per statement statistics in the spirit of {@code pg_stat_statements}, collected in the application: every statement
+ * jOOQ executes is normalized to a fingerprint, its literals and bind value lists replaced, and counted under it with
+ * calls, rows, total, mean, p99 and max time. The time runs from preparing the statement until its last row is fetched,
+ * which includes the network and mapping but not waiting for a connection. Only successful statements are counted.
+ * <p>
+ * Registered as an {@link ExecuteListenerProvider} on the default {@link org.jooq.DSLContext}, which hands out one small
+ * listener per execution. Statements that bypass jOOQ's execution, such as {@code QueryTemplate}, record through
+ * {@link #fingerprint(String)} themselves. The counters are {@link LongAdder}s, so concurrent statements don't contend
+ * on a lock or a single cache line; the p99 comes from a histogram with four buckets per power of two, i.e. it is the
+ * upper bound of its bucket and at most 25% above the actual value.
+ * <p>
+ * Statements slower than {@code statement-statistics.slow-threshold} are logged, a {@code slow-sample-rate} share of
+ * them to keep a burst of slow statements from flooding the log. The log shows the normalized statement only, as the
+ * literals and bind values hold customers' names and emails; {@code log-bind-values=true} adds the bind values, for
+ * debugging on a system whose logs may hold them.
+ */
+@ApplicationScoped
+public class StatementStatistics implements ExecuteListenerProvider {
+
+    private static final Logger LOG = Logger.getLogger(StatementStatistics.class);
+
+    static final String OTHER = "<other>";
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w.\"$])\\d+(?:\\.\\d+)?(?![\\w\"])");
+    private static final Pattern VALUE_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern REPEATED_VALUE_LISTS = Pattern.compile("\\(\\.\\.\\.\\)(?:\\s*,\\s*\\(\\.\\.\\.\\))+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final int maxStatements;
+    private final long slowThresholdNanos;
+    private final double slowSampleRate;
+    private final boolean logBindValues;
+    private final ConcurrentMap<String, Fingerprint> fingerprints = new ConcurrentHashMap<>();
+    // rendered SQL to its fingerprint, so a statement is normalized once and not on every execution
+    private final ConcurrentMap<String, Fingerprint> bySql = new ConcurrentHashMap<>();
+
+    public StatementStatistics(@ConfigProperty(name = "statement-statistics.max-statements", defaultValue = "5000") int maxStatements,
+                               @ConfigProperty(name = "statement-statistics.slow-threshold", defaultValue = "500ms") Duration slowThreshold,
+                               @ConfigProperty(name = "statement-statistics.slow-sample-rate", defaultValue = "1.0") double slowSampleRate,
+                               @ConfigProperty(name = "statement-statistics.log-bind-values", defaultValue = "false") boolean logBindValues) {
+        this.maxStatements = maxStatements;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowSampleRate = slowSampleRate;
+        this.logBindValues = logBindValues;
+    }
+
+    /**
+     * The statistics registered on {@code configuration}, or {@code null} if there are none, e.g. outside of the
+     * application.
+     */
+    public static StatementStatistics of(Configuration configuration) {
+        for (ExecuteListenerProvider provider : configuration.executeListenerProviders()) {
+            if (provider instanceof StatementStatistics statistics) {
+                return statistics;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public ExecuteListener provide() {
+        return new Execution();
+    }
+
+    /**
+     * The fingerprint {@code sql} is counted under. Once there are {@code max-statements} fingerprints, further ones
+     * are counted together under {@value #OTHER}.
+     */
+    public Fingerprint fingerprint(String sql) {
+        Fingerprint fingerprint = bySql.get(sql);
+        if (fingerprint != null) {
+            return fingerprint;
+        }
+        String normalized = normalize(sql);
+        fingerprint = fingerprints.get(normalized);
+        if (fingerprint == null) {
+            fingerprint = fingerprints.computeIfAbsent(fingerprints.size() < maxStatements ? normalized : OTHER, Fingerprint::new);
+        }
+        // the SQL strings vary more than their fingerprints, e.g. multi-row inserts by their number of rows
+        if (bySql.size() < maxStatements) {
+            bySql.put(sql, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * All fingerprints, the ones with the most total time first, at most {@code limit}.
+     */
+    public List<Summary> summaries(int limit) {
+        return fingerprints.values().stream()
+                .map(Fingerprint::summary)
+                .filter(summary -> summary.calls() > 0)
+                .sorted(Comparator.comparingDouble(Summary::totalMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Sets all counters back to zero. The fingerprints stay, as callers such as {@code QueryTemplate} hold on to
+     * theirs; statements running meanwhile may be counted partly before and partly after the reset.
+     */
+    public void reset() {
+        fingerprints.values().forEach(Fingerprint::reset);
+    }
+
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMERIC_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = VALUE_LIST.matcher(normalized).replaceAll("(...)");
+        normalized = REPEATED_VALUE_LISTS.matcher(normalized).replaceAll("(...)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    public record Summary(String fingerprint, long calls, long rows, double totalMillis, double meanMillis,
+                          double p99Millis, double maxMillis) {
+    }
+
+    /**
+     * The counters of one fingerprint.
+     */
+    public final class Fingerprint {
+
+        // bucket 0 is everything below 2^10 ns (1 us), then four buckets per power of two up to 2^38 ns (275 s)
+        private static final int MIN_EXPONENT = 10;
+        private static final int BUCKETS = 1 + (38 - MIN_EXPONENT) * 4;
+
+        private final String fingerprint;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+        private Fingerprint(String fingerprint) {
+            this.fingerprint = fingerprint;
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * Counts one successful execution of {@code sql}; {@code bindValues} is only asked for if the execution gets
+         * logged as slow and bind values are logged at all.
+         */
+        public void record(String sql, long nanos, long rowCount, Supplier<?> bindValues) {
+            calls.increment();
+            rows.add(rowCount);
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            histogram[bucket(nanos)].increment();
+            if (nanos >= slowThresholdNanos && ThreadLocalRandom.current().nextDouble() < slowSampleRate) {
+                // normalized again rather than this fingerprint, which may be the shared <other>
+                if (logBindValues) {
+                    LOG.warnf("Slow statement, %d ms and %d rows: %s; bind values %s",
+                            Duration.ofNanos(nanos).toMillis(), rowCount, normalize(sql), bindValues.get());
+                } else {
+                    LOG.warnf("Slow statement, %d ms and %d rows: %s",
+                            Duration.ofNanos(nanos).toMillis(), rowCount, normalize(sql));
+                }
+            }
+        }
+
+        Summary summary() {
+            long count = calls.sum();
+            double total = millis(totalNanos.sum());
+            return new Summary(fingerprint, count, rows.sum(), total, count == 0 ? 0 : total / count,
+                    millis(percentile(0.99)), millis(maxNanos.get()));
+        }
+
+        long percentile(double percentile) {
+            long[] counts = new long[BUCKETS];
+            long count = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = histogram[i].sum();
+                count += counts[i];
+            }
+            long rank = (long) Math.ceil(percentile * count);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank && counts[i] > 0) {
+                    return Math.min(upperBound(i), maxNanos.get());
+                }
+            }
+            return 0;
+        }
+
+        private void reset() {
+            calls.reset();
+            rows.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+            for (LongAdder bucket : histogram) {
+                bucket.reset();
+            }
+        }
+
+        static int bucket(long nanos) {
+            if (nanos < 1L << MIN_EXPONENT) {
+                return 0;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+            int quarter = (int) (nanos >>> (exponent - 2)) & 3;
+            return Math.min(1 + (exponent - MIN_EXPONENT) * 4 + quarter, BUCKETS - 1);
+        }
+
+        static long upperBound(int bucket) {
+            if (bucket == 0) {
+                return 1L << MIN_EXPONENT;
+            }
+            int exponent = MIN_EXPONENT + (bucket - 1) / 4;
+            int quarter = (bucket - 1) % 4;
+            return (1L << exponent) + ((quarter + 1L) << (exponent - 2));
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    /**
+     * One execution through jOOQ, from preparing the statement until {@code end}, counting the fetched records or,
+     * for DML, the affected rows.
+     */
+    private final class Execution implements ExecuteListener {
+
+        private long start;
+        private long rows;
+
+        @Override
+        public void prepareStart(ExecuteContext ctx) {
+            start = System.nanoTime();
+        }
+
+        @Override
+        public void recordEnd(ExecuteContext ctx) {
+            rows++;
+        }
+
+        @Override
+        public void end(ExecuteContext ctx) {
+            long nanos = System.nanoTime() - start;
+            String sql = ctx.sql() != null ? ctx.sql() : ctx.batchSQL().length > 0 ? ctx.batchSQL()[0] : null;
+            if (start == 0 || sql == null || ctx.exception() != null || ctx.sqlException() != null) {
+                return;
+            }
+            if (rows == 0 && ctx.rows() >= 0) {
+                rows = ctx.rows();
+            } else if (rows == 0) {
+                // a batch, which has no single update count
+                for (int batchRows : ctx.batchRows()) {
+                    rows += Math.max(batchRows, 0);
+                }
+            }
+            fingerprint(sql).record(sql, nanos, rows,
+                    () -> ctx.query() != null ? ctx.query().getBindValues() : List.of());
+        }
+    }
+}
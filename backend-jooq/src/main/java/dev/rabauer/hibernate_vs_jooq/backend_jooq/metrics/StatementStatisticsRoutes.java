@@ -0,0 +1,60 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.metrics;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.vertx.http.ManagementInterface;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+/**
+ * The {@link StatementStatistics} next to the other management endpoints under {@code /q}: {@code GET} lists the
+ * fingerprints with the most total time first, at most {@code limit} (50), {@code DELETE} sets the counters back to
+ * zero, like {@code pg_stat_statements_reset()}. Served on the management interface only, not on the public HTTP port,
+ * as the statements describe the schema and anyone who could reach {@code DELETE} could wipe them.
+ */
+@ApplicationScoped
+public class StatementStatisticsRoutes {
+
+    static final String PATH = "/q/statements";
+
+    private final StatementStatistics statistics;
+    private final ObjectMapper objectMapper;
+
+    public StatementStatisticsRoutes(StatementStatistics statistics, ObjectMapper objectMapper) {
+        this.statistics = statistics;
+        this.objectMapper = objectMapper;
+    }
+
+    void register(@Observes ManagementInterface management) {
+        management.router().get(PATH).handler(this::list);
+        management.router().delete(PATH).handler(this::reset);
+    }
+
+    private void list(RoutingContext context) {
+        String limitParameter = context.queryParams().get("limit");
+        int limit;
+        try {
+            limit = limitParameter == null ? 50 : Integer.parseInt(limitParameter);
+        } catch (NumberFormatException e) {
+            limit = -1;
+        }
+        if (limit < 0) {
+            context.response().setStatusCode(400).end();
+            return;
+        }
+        try {
+            context.response()
+                    .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                    .end(objectMapper.writeValueAsString(statistics.summaries(limit)));
+        } catch (JsonProcessingException e) {
+            context.fail(e);
+        }
+    }
+
+    private void reset(RoutingContext context) {
+        statistics.reset();
+        context.response().setStatusCode(204).end();
+    }
+}
@@ -0,0 +1,15 @@
+-- Staging table for POST /customer/bulk. Rows are COPYed in and merged into customer/address within a
+-- single transaction, so the table is UNLOGGED (no WAL) and import_id (the importing transaction's id)
+-- keeps concurrent imports apart. Columns are unconstrained TEXT; validation happens in the merge.
+CREATE UNLOGGED TABLE customer_import (
+    import_id BIGINT NOT NULL DEFAULT txid_current(),
+    line_no BIGINT GENERATED ALWAYS AS IDENTITY,
+    first_name TEXT,
+    last_name TEXT,
+    email TEXT,
+    street TEXT,
+    city TEXT,
+    country TEXT
+);
+
+CREATE INDEX idx_customer_import_import_id ON customer_import (import_id);
@@ -0,0 +1,40 @@
+-- V2 made the pooled sequences the column defaults too, so every insert that omits the id, as backend-jooq and
+-- backend-jooq-reactive issue them, used up a block of 50 ids for one row, and so did every conflicting
+-- INSERT ... ON CONFLICT DO NOTHING. With INTEGER ids that ran out after about 43 million rows, invoice_item first.
+--
+-- The ids are split into two disjoint ranges instead, as both kinds of writers share the tables:
+-- * the column defaults draw from increment-1 sequences <table>_id_seq below 1,000,000,000;
+-- * Hibernate's pooled-lo generator keeps its <table>_seq, moved to 1,000,000,000 and up, and still reserves
+--   50 ids per nextval() (a block is only wasted when its session ends before using it).
+-- Each range holds about a billion ids; a writer that exhausts its range fails with a sequence error rather than
+-- reusing the other range's ids.
+
+CREATE SEQUENCE customer_id_seq MAXVALUE 999999999 OWNED BY customer.customer_id;
+SELECT setval('customer_id_seq', COALESCE((SELECT MAX(customer_id) FROM customer WHERE customer_id < 1000000000), 0) + 1, false);
+ALTER TABLE customer ALTER COLUMN customer_id SET DEFAULT nextval('customer_id_seq');
+ALTER SEQUENCE customer_seq MINVALUE 1000000000 START WITH 1000000000 RESTART;
+SELECT setval('customer_seq', GREATEST(1000000000, COALESCE((SELECT MAX(customer_id) FROM customer), 0) + 1), false);
+
+CREATE SEQUENCE product_id_seq MAXVALUE 999999999 OWNED BY product.product_id;
+SELECT setval('product_id_seq', COALESCE((SELECT MAX(product_id) FROM product WHERE product_id < 1000000000), 0) + 1, false);
+ALTER TABLE product ALTER COLUMN product_id SET DEFAULT nextval('product_id_seq');
+ALTER SEQUENCE product_seq MINVALUE 1000000000 START WITH 1000000000 RESTART;
+SELECT setval('product_seq', GREATEST(1000000000, COALESCE((SELECT MAX(product_id) FROM product), 0) + 1), false);
+
+CREATE SEQUENCE address_id_seq MAXVALUE 999999999 OWNED BY address.address_id;
+SELECT setval('address_id_seq', COALESCE((SELECT MAX(address_id) FROM address WHERE address_id < 1000000000), 0) + 1, false);
+ALTER TABLE address ALTER COLUMN address_id SET DEFAULT nextval('address_id_seq');
+ALTER SEQUENCE address_seq MINVALUE 1000000000 START WITH 1000000000 RESTART;
+SELECT setval('address_seq', GREATEST(1000000000, COALESCE((SELECT MAX(address_id) FROM address), 0) + 1), false);
+
+CREATE SEQUENCE invoice_id_seq MAXVALUE 999999999 OWNED BY invoice.invoice_id;
+SELECT setval('invoice_id_seq', COALESCE((SELECT MAX(invoice_id) FROM invoice WHERE invoice_id < 1000000000), 0) + 1, false);
+ALTER TABLE invoice ALTER COLUMN invoice_id SET DEFAULT nextval('invoice_id_seq');
+ALTER SEQUENCE invoice_seq MINVALUE 1000000000 START WITH 1000000000 RESTART;
+SELECT setval('invoice_seq', GREATEST(1000000000, COALESCE((SELECT MAX(invoice_id) FROM invoice), 0) + 1), false);
+
+CREATE SEQUENCE invoice_item_id_seq MAXVALUE 999999999 OWNED BY invoice_item.invoice_item_id;
+SELECT setval('invoice_item_id_seq', COALESCE((SELECT MAX(invoice_item_id) FROM invoice_item WHERE invoice_item_id < 1000000000), 0) + 1, false);
+ALTER TABLE invoice_item ALTER COLUMN invoice_item_id SET DEFAULT nextval('invoice_item_id_seq');
+ALTER SEQUENCE invoice_item_seq MINVALUE 1000000000 START WITH 1000000000 RESTART;
+SELECT setval('invoice_item_seq', GREATEST(1000000000, COALESCE((SELECT MAX(invoice_item_id) FROM invoice_item), 0) + 1), false);
@@ -0,0 +1,108 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.api;
+
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiNewCustomer;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiNewInvoice;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.test.PostgresResource;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@QuarkusTest
+@QuarkusTestResource(PostgresResource.class)
+@TestProfile(GroupCommitTest.GroupCommit.class)
+public class GroupCommitTest {
+
+    private static final int WRITERS = 20;
+
+    @TestHTTPResource(value = "/q/metrics", management = true)
+    URL metrics;
+
+    public static class GroupCommit implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            // long enough for the concurrent requests below to end up in shared batches
+            return Map.of("group-commit.enabled", "true", "group-commit.max-delay", "50ms");
+        }
+    }
+
+    @Test
+    public void testConcurrentWritesAreCommittedTogether() throws Exception {
+        // the last customer reuses the first one's email and fails alone, the rest of its batch is retried and commits
+        List<ExtractableResponse<Response>> customers = concurrently(IntStream.range(0, WRITERS)
+                .mapToObj(i -> (Callable<ExtractableResponse<Response>>) () -> given()
+                        .contentType(JSON)
+                        .body(new ApiNewCustomer("Greta", "Group " + i, "greta" + (i == WRITERS - 1 ? 0 : i) + "@example.com"))
+                        .when().post("/customer")
+                        .then().extract())
+                .toList());
+
+        var customerIds = new HashSet<Integer>();
+        int rejected = 0;
+        for (var response : customers) {
+            if (response.statusCode() == HttpStatus.SC_CREATED) {
+                customerIds.add(response.path("id"));
+            } else {
+                rejected++;
+            }
+        }
+        assertThat(rejected, is(1));
+        assertThat(customerIds, hasSize(WRITERS - 1));
+
+        List<ExtractableResponse<Response>> invoices = concurrently(customerIds.stream()
+                .map(customerId -> (Callable<ExtractableResponse<Response>>) () -> given()
+                        .contentType(JSON)
+                        .body(new ApiNewInvoice(customerId, Instant.now(), List.of(
+                                new ApiNewInvoice.ApiNewInvoiceItem("Group line", 200, 3)
+                        )))
+                        .when().post("/invoice")
+                        .then().extract())
+                .toList());
+        assertThat(invoices.stream().map(ExtractableResponse::statusCode).toList(), everyItem(is(HttpStatus.SC_CREATED)));
+        assertThat(invoices.stream().map(response -> response.header("Location")).distinct().count(), is((long) customerIds.size()));
+
+        for (int customerId : customerIds) {
+            given().when().get("/customer/" + customerId + "/summary")
+                    .then().statusCode(200)
+                    .body("invoiceCount", is(1))
+                    .body("totalRevenueCents", is(600));
+        }
+
+        // some batch held more than one write
+        given().when().get(metrics)
+                .then().statusCode(200)
+                .body(matchesPattern("(?s).*group_commit_batch_size_max(\\{[^}]*})? ([2-9]|\\d{2,})\\.0.*"));
+    }
+
+    private static <T> List<T> concurrently(List<Callable<T>> tasks) throws InterruptedException, ExecutionException {
+        try (var executor = Executors.newFixedThreadPool(tasks.size())) {
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+}
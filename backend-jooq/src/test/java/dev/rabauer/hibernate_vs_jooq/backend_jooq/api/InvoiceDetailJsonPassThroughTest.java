@@ -0,0 +1,64 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.api;
+
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiNewCustomer;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiNewInvoice;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.test.PostgresResource;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static org.hamcrest.Matchers.*;
+
+@QuarkusTest
+@QuarkusTestResource(PostgresResource.class)
+@TestProfile(InvoiceDetailJsonPassThroughTest.JsonPassThrough.class)
+public class InvoiceDetailJsonPassThroughTest {
+
+    public static class JsonPassThrough implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("invoice.detail-json-pass-through", "true");
+        }
+    }
+
+    @Test
+    public void testInvoiceDetailRenderedByDatabase() {
+        int customerId = given()
+                .contentType(JSON)
+                .body(new ApiNewCustomer("Jason", "Json", "jason@example.com"))
+                .when().post("/customer")
+                .then().statusCode(HttpStatus.SC_CREATED)
+                .extract().path("id");
+
+        String location = given()
+                .contentType(JSON)
+                .body(new ApiNewInvoice(customerId, Instant.now(), List.of(
+                        new ApiNewInvoice.ApiNewInvoiceItem("Brace", 425, 2),
+                        new ApiNewInvoice.ApiNewInvoiceItem("Bracket", 100, 5)
+                )))
+                .when().post("/invoice")
+                .then().statusCode(HttpStatus.SC_CREATED)
+                .extract().header("Location");
+
+        given().when().get(location)
+                .then().statusCode(200)
+                .contentType(JSON)
+                .body("items.size()", is(2))
+                .body("items.product.name", contains("Brace", "Bracket"))
+                .body("items.quantity", contains(2, 5))
+                .body("items[0].product.priceCents", is(425));
+
+        given().when().get("/invoice/-1")
+                .then().statusCode(200)
+                .body("items", empty());
+    }
+}
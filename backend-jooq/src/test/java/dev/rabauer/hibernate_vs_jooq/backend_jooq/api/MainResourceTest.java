@@ -1,5 +1,8 @@
 package dev.rabauer.hibernate_vs_jooq.backend_jooq.api;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiNewCustomer;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiNewInvoice;
 import dev.rabauer.hibernate_vs_jooq.backend_jooq.test.PostgresResource;
@@ -8,11 +11,13 @@ import io.quarkus.test.junit.QuarkusTest;
 import org.apache.http.HttpStatus;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.List;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
 @QuarkusTest
@@ -36,6 +41,108 @@ public class MainResourceTest {
                 .body("email", hasItem("alice@example.com"));
     }
 
+    @Test
+    public void testCustomerKeysetPagination() {
+        for (int i = 0; i < 3; i++) {
+            given()
+                    .contentType(JSON)
+                    .body(new ApiNewCustomer("Page", "User" + i, "page" + i + "@example.com"))
+                    .when().post("/customer")
+                    .then().statusCode(HttpStatus.SC_CREATED);
+        }
+
+        List<Integer> firstPage = given().queryParam("limit", 2)
+                .when().get("/customer")
+                .then().statusCode(200)
+                .body("size()", is(2))
+                .header("Link", containsString("rel=\"next\""))
+                .extract().jsonPath().getList("id", Integer.class);
+        int after = firstPage.get(1);
+
+        given().queryParam("after", after).queryParam("limit", 2)
+                .when().get("/customer")
+                .then().statusCode(200)
+                .body("id", everyItem(greaterThan(after)));
+
+        // page size must be positive
+        given().queryParam("limit", 0)
+                .when().get("/customer")
+                .then().statusCode(400);
+    }
+
+    @Test
+    public void testStreamCustomersAsNdjson() {
+        given()
+                .contentType(JSON)
+                .body(new ApiNewCustomer("Nora", "Stream", "nora@example.com"))
+                .when().post("/customer")
+                .then().statusCode(HttpStatus.SC_CREATED);
+
+        String body = given().accept(MainResource.APPLICATION_NDJSON)
+                .when().get("/customer")
+                .then().statusCode(200)
+                .contentType(startsWith(MainResource.APPLICATION_NDJSON))
+                .extract().asString();
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines, everyItem(startsWith("{")));
+        assertThat(lines, hasItem(containsString("\"email\":\"nora@example.com\"")));
+    }
+
+    @Test
+    public void testBulkImportCustomers() {
+        given()
+                .contentType(JSON)
+                .body(new ApiNewCustomer("Existing", "Customer", "bulk-existing@example.com"))
+                .when().post("/customer")
+                .then().statusCode(HttpStatus.SC_CREATED);
+
+        String csv = """
+                first_name,last_name,email,street,city,country
+                Carla,Bulk,bulk-carla@example.com,Main St 1,Vienna,Austria
+                Dan,Bulk,bulk-dan@example.com,,,
+                ,Bulk,bulk-invalid@example.com,,,
+                Carla,Again,bulk-carla@example.com,,,
+                Eve,Bulk,bulk-existing@example.com,,,
+                """;
+        given()
+                .contentType(MainResource.TEXT_CSV)
+                .body(csv)
+                .when().post("/customer/bulk")
+                .then().statusCode(200)
+                .body("received", is(5))
+                .body("imported", is(2))
+                .body("rejected", is(3))
+                .body("rejectedRows.reason", contains("invalid", "duplicate email in import", "email already exists"))
+                .body("rejectedRows.line", contains(3, 4, 5));
+
+        int carlaId = given().accept(JSON).queryParam("limit", MainResource.MAX_CUSTOMER_PAGE_SIZE)
+                .when().get("/customer")
+                .then().statusCode(200)
+                .extract().jsonPath().getInt("find { it.email == 'bulk-carla@example.com' }.id");
+        given().when().get("/customer/" + carlaId + "/addresses")
+                .then().statusCode(200)
+                .body("city", contains("Vienna"));
+
+        String ndjson = """
+                {"firstName":"Finn","lastName":"Bulk","email":"bulk-finn@example.com","address":{"street":"Ring 2","city":"Graz","country":"Austria"}}
+                {"firstName":"Gina","lastName":"Bulk","email":"bulk-gina@example.com"}
+                """;
+        given()
+                .contentType(MainResource.APPLICATION_NDJSON)
+                .body(ndjson)
+                .when().post("/customer/bulk")
+                .then().statusCode(200)
+                .body("imported", is(2))
+                .body("rejected", is(0));
+
+        given()
+                .contentType(MainResource.APPLICATION_NDJSON)
+                .body("{\"firstName\":")
+                .when().post("/customer/bulk")
+                .then().statusCode(400);
+    }
+
     @Test
     public void testCreateInvoiceAndGetDetail() {
         // create customer
@@ -52,7 +159,7 @@ public class MainResourceTest {
                         customerId,
                         Instant.now(),
                         List.of(
-                                new ApiNewInvoice.ApiNewInvoiceItem("Gadget", 12.5, 2)
+                                new ApiNewInvoice.ApiNewInvoiceItem("Gadget", 1250, 2)
                         )
                 ))
                 .when().post("/invoice")
@@ -74,4 +181,251 @@ public class MainResourceTest {
                 .body("items.size()", is(1))
                 .body("items[0].product.name", equalTo("Gadget"));
     }
+
+    @Test
+    public void testInvoiceLinesShareProducts() {
+        int customerId = given()
+                .contentType(JSON)
+                .body(new ApiNewCustomer("Paula", "Product", "paula@example.com"))
+                .when().post("/customer")
+                .then().statusCode(HttpStatus.SC_CREATED)
+                .extract().path("id");
+
+        // the same product twice in one invoice becomes one line; the second invoice resolves the existing product
+        for (int i = 0; i < 2; i++) {
+            String location = given()
+                    .contentType(JSON)
+                    .body(new ApiNewInvoice(
+                            customerId,
+                            Instant.now(),
+                            List.of(
+                                    new ApiNewInvoice.ApiNewInvoiceItem("Widget", 350, 1),
+                                    new ApiNewInvoice.ApiNewInvoiceItem("Widget", 350, 2)
+                            )
+                    ))
+                    .when().post("/invoice")
+                    .then().statusCode(201)
+                    .extract().header("Location");
+
+            given().when().get(location)
+                    .then().statusCode(200)
+                    .body("items.size()", is(1))
+                    .body("items[0].quantity", is(3))
+                    .body("items[0].product.name", equalTo("Widget"));
+        }
+    }
+
+    @Test
+    public void testCustomerOverview() {
+        int customerId = given()
+                .contentType(JSON)
+                .body(new ApiNewCustomer("Olivia", "Overview", "olivia@example.com"))
+                .when().post("/customer")
+                .then().statusCode(HttpStatus.SC_CREATED)
+                .extract().path("id");
+
+        for (int i = 0; i < 2; i++) {
+            given()
+                    .contentType(JSON)
+                    .body(new ApiNewInvoice(
+                            customerId,
+                            Instant.now(),
+                            List.of(
+                                    new ApiNewInvoice.ApiNewInvoiceItem("Lamp", 2000, 1),
+                                    new ApiNewInvoice.ApiNewInvoiceItem("Bulb", 250, 4)
+                            )
+                    ))
+                    .when().post("/invoice")
+                    .then().statusCode(201);
+        }
+
+        given().when().get("/customer/" + customerId + "/overview")
+                .then().statusCode(200)
+                .body("customer.email", equalTo("olivia@example.com"))
+                .body("addresses", empty())
+                .body("invoices.size()", is(2))
+                .body("invoices[0].totalAmountCents", is(3000))
+                .body("invoices[0].items.product.name", contains("Lamp", "Bulb"))
+                .body("invoices[1].items.quantity", contains(1, 4));
+
+        given().when().get("/customer/-1/overview")
+                .then().statusCode(HttpStatus.SC_NOT_FOUND);
+    }
+
+    @Test
+    public void testCachedInvoiceListSeesNewInvoice() {
+        int customerId = given()
+                .contentType(JSON)
+                .body(new ApiNewCustomer("Carl", "Cache", "carl@example.com"))
+                .when().post("/customer")
+                .then().statusCode(HttpStatus.SC_CREATED)
+                .extract().path("id");
+
+        // the empty list is cached now
+        given().when().get("/customer/" + customerId + "/invoices")
+                .then().statusCode(200)
+                .body("size()", is(0));
+
+        given()
+                .contentType(JSON)
+                .body(new ApiNewInvoice(customerId, Instant.now(), List.of(
+                        new ApiNewInvoice.ApiNewInvoiceItem("Cache line", 999, 1)
+                )))
+                .when().post("/invoice")
+                .then().statusCode(201);
+
+        // cents, not truncated to whole units
+        given().when().get("/customer/" + customerId + "/invoices")
+                .then().statusCode(200)
+                .body("size()", is(1))
+                .body("[0].totalAmountCents", is(999));
+    }
+
+    @Test
+    public void testCustomerSummary() {
+        int customerId = given()
+                .contentType(JSON)
+                .body(new ApiNewCustomer("Sam", "Summary", "sam@example.com"))
+                .when().post("/customer")
+                .then().statusCode(HttpStatus.SC_CREATED)
+                .extract().path("id");
+
+        given().when().get("/customer/" + customerId + "/summary")
+                .then().statusCode(200)
+                .body("customerId", is(customerId))
+                .body("invoiceCount", is(0))
+                .body("totalRevenueCents", is(0))
+                .body("lastInvoiceTimestamp", nullValue());
+
+        for (var timestamp : List.of(Instant.parse("2024-05-01T10:00:00Z"), Instant.parse("2024-03-01T10:00:00Z"))) {
+            given()
+                    .contentType(JSON)
+                    .body(new ApiNewInvoice(customerId, timestamp, List.of(
+                            new ApiNewInvoice.ApiNewInvoiceItem("Summary line", 1000, 3)
+                    )))
+                    .when().post("/invoice")
+                    .then().statusCode(201);
+        }
+
+        given().when().get("/customer/" + customerId + "/summary")
+                .then().statusCode(200)
+                .body("invoiceCount", is(2))
+                .body("totalRevenueCents", is(6000))
+                .body("lastInvoiceTimestamp", is("2024-05-01T00:00:00Z"));
+
+        given().when().get("/customer/-1/summary")
+                .then().statusCode(HttpStatus.SC_NOT_FOUND);
+    }
+
+    @Test
+    public void testInvoicesBetweenDates() {
+        int customerId = given()
+                .contentType(JSON)
+                .body(new ApiNewCustomer("Dora", "Dates", "dora@example.com"))
+                .when().post("/customer")
+                .then().statusCode(HttpStatus.SC_CREATED)
+                .extract().path("id");
+
+        // one invoice in a monthly partition created ahead, one in the default partition
+        for (var timestamp : List.of(Instant.now(), Instant.parse("2020-01-15T10:00:00Z"))) {
+            given()
+                    .contentType(JSON)
+                    .body(new ApiNewInvoice(customerId, timestamp, List.of(
+                            new ApiNewInvoice.ApiNewInvoiceItem("Dated line", 500, 1)
+                    )))
+                    .when().post("/invoice")
+                    .then().statusCode(201);
+        }
+
+        given().queryParam("from", "2020-01-01").queryParam("to", "2020-01-31")
+                .when().get("/customer/" + customerId + "/invoices")
+                .then().statusCode(200)
+                .body("timestamp", contains("2020-01-15T00:00:00Z"));
+
+        given().queryParam("from", "2020-02-01")
+                .when().get("/customer/" + customerId + "/invoices")
+                .then().statusCode(200)
+                .body("size()", is(1))
+                .body("timestamp[0]", not("2020-01-15T00:00:00Z"));
+
+        given().when().get("/customer/" + customerId + "/invoices")
+                .then().statusCode(200)
+                .body("size()", is(2));
+    }
+
+    @Test
+    public void testConditionalGet() {
+        int customerId = given()
+                .contentType(JSON)
+                .body(new ApiNewCustomer("Etta", "Tag", "etta@example.com"))
+                .when().post("/customer")
+                .then().statusCode(HttpStatus.SC_CREATED)
+                .extract().path("id");
+
+        String invoicesTag = given().when().get("/customer/" + customerId + "/invoices")
+                .then().statusCode(200)
+                .header("Cache-Control", "no-cache")
+                .extract().header("ETag");
+        assertThat(invoicesTag, startsWith("W/"));
+
+        given().header("If-None-Match", invoicesTag)
+                .when().get("/customer/" + customerId + "/invoices")
+                .then().statusCode(HttpStatus.SC_NOT_MODIFIED)
+                .header("ETag", invoicesTag);
+
+        String location = given()
+                .contentType(JSON)
+                .body(new ApiNewInvoice(customerId, Instant.now(), List.of(
+                        new ApiNewInvoice.ApiNewInvoiceItem("Tagged line", 150, 2)
+                )))
+                .when().post("/invoice")
+                .then().statusCode(201)
+                .extract().header("Location");
+
+        // the invoice write outdated the tag
+        given().header("If-None-Match", invoicesTag)
+                .when().get("/customer/" + customerId + "/invoices")
+                .then().statusCode(200)
+                .header("ETag", not(invoicesTag))
+                .body("size()", is(1));
+
+        String invoiceTag = given().when().get(location)
+                .then().statusCode(200)
+                .header("Cache-Control", containsString("immutable"))
+                .extract().header("ETag");
+
+        given().header("If-None-Match", invoiceTag)
+                .when().get(location)
+                .then().statusCode(HttpStatus.SC_NOT_MODIFIED);
+
+        // not there (yet), so nothing to keep
+        given().when().get("/invoice/-1")
+                .then().statusCode(200)
+                .header("ETag", nullValue())
+                .header("Cache-Control", "no-cache")
+                .body("items", empty());
+    }
+
+    @Test
+    public void testSmileRepresentation() throws IOException {
+        given()
+                .contentType(JSON)
+                .body(new ApiNewCustomer("Smilla", "Binary", "smilla@example.com"))
+                .when().post("/customer")
+                .then().statusCode(HttpStatus.SC_CREATED);
+
+        byte[] smile = given().accept(SmileMessageBodyWriter.APPLICATION_SMILE)
+                .when().get("/customer?limit=1000")
+                .then().statusCode(200)
+                .contentType(SmileMessageBodyWriter.APPLICATION_SMILE)
+                .extract().asByteArray();
+        JsonNode customers = new ObjectMapper(new SmileFactory()).readTree(smile);
+        assertThat(customers.findValuesAsText("email"), hasItem("smilla@example.com"));
+
+        // JSON stays the answer for clients without a preference
+        given().accept("*/*")
+                .when().get("/customer")
+                .then().statusCode(200)
+                .contentType(JSON);
+    }
 }
@@ -0,0 +1,138 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.api;
+
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiNewCustomer;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiNewInvoice;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.ReadRouter;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.test.PostgresReplicationResource;
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static org.hamcrest.Matchers.*;
+
+@QuarkusTest
+@TestProfile(ReadReplicaRoutingTest.PrimaryAndReplica.class)
+public class ReadReplicaRoutingTest {
+
+    public static class PrimaryAndReplica implements QuarkusTestProfile {
+        @Override
+        public List<TestResourceEntry> testResources() {
+            return List.of(new TestResourceEntry(PostgresReplicationResource.class));
+        }
+
+        @Override
+        public boolean disableGlobalTestResources() {
+            return true;
+        }
+    }
+
+    @Inject
+    @DataSource(ReadRouter.REPLICA)
+    AgroalDataSource replica;
+
+    @Test
+    public void testReadsGoToReplicaUnlessClientJustWrote() throws Exception {
+        int customerId;
+        String readPrimaryUntil;
+        // with replay paused the replica cannot see anything written from now on
+        replay("pg_wal_replay_pause");
+        try {
+            var created = given()
+                    .contentType(JSON)
+                    .body(new ApiNewCustomer("Rita", "Replica", "rita@example.com"))
+                    .when().post("/customer")
+                    .then().statusCode(HttpStatus.SC_CREATED)
+                    .cookie(ReadYourWritesFilter.COOKIE)
+                    .extract();
+            customerId = created.path("id");
+            readPrimaryUntil = created.cookie(ReadYourWritesFilter.COOKIE);
+
+            given().when().get("/customer/" + customerId + "/overview")
+                    .then().statusCode(HttpStatus.SC_NOT_FOUND);
+
+            given().cookie(ReadYourWritesFilter.COOKIE, readPrimaryUntil)
+                    .when().get("/customer/" + customerId + "/overview")
+                    .then().statusCode(200)
+                    .body("customer.email", is("rita@example.com"));
+
+            // an expired window reads from the replica again
+            given().cookie(ReadYourWritesFilter.COOKIE, System.currentTimeMillis() - 1)
+                    .when().get("/customer/" + customerId + "/overview")
+                    .then().statusCode(HttpStatus.SC_NOT_FOUND);
+        } finally {
+            replay("pg_wal_replay_resume");
+        }
+
+        awaitReplica(customerId);
+    }
+
+    @Test
+    public void testClientThatJustWroteBypassesCacheFilledFromReplica() throws Exception {
+        int customerId = given()
+                .contentType(JSON)
+                .body(new ApiNewCustomer("Carl", "Cache", "carl@example.com"))
+                .when().post("/customer")
+                .then().statusCode(HttpStatus.SC_CREATED)
+                .extract().path("id");
+        awaitReplica(customerId);
+
+        replay("pg_wal_replay_pause");
+        try {
+            String readPrimaryUntil = given()
+                    .contentType(JSON)
+                    .body(new ApiNewInvoice(customerId, Instant.now(),
+                            List.of(new ApiNewInvoice.ApiNewInvoiceItem("Cache product", 999, 1))))
+                    .when().post("/invoice")
+                    .then().statusCode(HttpStatus.SC_CREATED)
+                    .extract().cookie(ReadYourWritesFilter.COOKIE);
+
+            // another client reads the lagging replica after the write's eviction and caches the list without it
+            given().when().get("/customer/" + customerId + "/invoices")
+                    .then().statusCode(200)
+                    .body("size()", is(0));
+
+            given().cookie(ReadYourWritesFilter.COOKIE, readPrimaryUntil)
+                    .when().get("/customer/" + customerId + "/invoices")
+                    .then().statusCode(200)
+                    .body("size()", is(1));
+        } finally {
+            replay("pg_wal_replay_resume");
+        }
+    }
+
+    @Test
+    public void testReadsDoNotSetStickiness() {
+        given().when().get("/customer")
+                .then().statusCode(200)
+                .header("Set-Cookie", nullValue());
+    }
+
+    private static void awaitReplica(int customerId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (given().when().get("/customer/" + customerId + "/overview").statusCode() != 200) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("replica did not catch up with customer " + customerId);
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    private void replay(String function) throws SQLException {
+        try (Connection connection = replica.getConnection();
+             var statement = connection.createStatement()) {
+            statement.execute("SELECT " + function + "()");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.api;
+
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiNewCustomer;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiNewInvoice;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.test.PostgresResource;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit5.virtual.ShouldNotPin;
+import io.quarkus.test.junit5.virtual.VirtualThreadUnit;
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+
+/**
+ * Fails if a request pins its carrier thread anywhere on the way through the resource, jOOQ, the Agroal pool
+ * and the PostgreSQL JDBC driver.
+ */
+@QuarkusTest
+@QuarkusTestResource(PostgresResource.class)
+@VirtualThreadUnit
+@ShouldNotPin
+public class VirtualThreadPinningTest {
+
+    @Test
+    public void testReadsAndWritesDoNotPin() {
+        int customerId = given()
+                .contentType(JSON)
+                .body(new ApiNewCustomer("Vera", "Virtual", "vera@example.com"))
+                .when().post("/customer")
+                .then().statusCode(HttpStatus.SC_CREATED)
+                .extract().path("id");
+
+        String location = given()
+                .contentType(JSON)
+                .body(new ApiNewInvoice(customerId, Instant.now(), List.of(
+                        new ApiNewInvoice.ApiNewInvoiceItem("Thread", 150, 2)
+                )))
+                .when().post("/invoice")
+                .then().statusCode(HttpStatus.SC_CREATED)
+                .extract().header("Location");
+
+        given().when().get("/customer").then().statusCode(200);
+        given().accept(MainResource.APPLICATION_NDJSON).when().get("/customer").then().statusCode(200);
+        given().when().get("/customer/" + customerId + "/invoices").then().statusCode(200);
+        given().when().get("/customer/" + customerId + "/addresses").then().statusCode(200);
+        given().when().get("/customer/" + customerId + "/overview").then().statusCode(200);
+        given().when().get(location).then().statusCode(200);
+        given()
+                .contentType(MainResource.TEXT_CSV)
+                .body("first_name,last_name,email,street,city,country\nVince,Virtual,vince@example.com,,,\n")
+                .when().post("/customer/bulk")
+                .then().statusCode(200);
+    }
+}
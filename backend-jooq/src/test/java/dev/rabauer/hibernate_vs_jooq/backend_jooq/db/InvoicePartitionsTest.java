@@ -0,0 +1,61 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.db;
+
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.test.PostgresResource;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * A month whose invoices went to the default partition, because its partitions were missing, gets its partitions
+ * later and its invoices moved into them. Rolled back, so the other tests don't see the month.
+ */
+@QuarkusTest
+@QuarkusTestResource(PostgresResource.class)
+public class InvoicePartitionsTest {
+
+    @Inject
+    DSLContext dsl;
+
+    private static class Rollback extends RuntimeException {
+    }
+
+    @Test
+    public void testMovesDefaultPartitionRowsIntoNewPartitions() {
+        try {
+            dsl.transaction(configuration -> {
+                var ctx = DSL.using(configuration);
+                ctx.execute("""
+                        INSERT INTO customer (first_name, last_name, email) VALUES ('Fay', 'Future', 'fay@example.com');
+                        INSERT INTO product (product_name, price) VALUES ('Future product', 1.50);
+                        INSERT INTO invoice (customer_id, invoice_date, total_amount)
+                        SELECT customer_id, DATE '2041-03-05', 1.50 FROM customer WHERE email = 'fay@example.com';
+                        INSERT INTO invoice_item (invoice_id, product_id, quantity, unit_price, invoice_date)
+                        SELECT i.invoice_id, p.product_id, 1, p.price, i.invoice_date
+                        FROM invoice i, product p
+                        WHERE i.invoice_date = DATE '2041-03-05' AND p.product_name = 'Future product';
+                        """);
+                assertThat(count(ctx, "invoice_default"), is(1L));
+
+                ctx.fetch("SELECT create_invoice_partitions(DATE '2041-03-01', DATE '2041-03-01')");
+
+                assertThat(count(ctx, "invoice_default"), is(0L));
+                assertThat(count(ctx, "invoice_item_default"), is(0L));
+                assertThat(count(ctx, "invoice_y2041m03"), is(1L));
+                assertThat(count(ctx, "invoice_item_y2041m03"), is(1L));
+                throw new Rollback();
+            });
+        } catch (Rollback expected) {
+            // the month's partitions and rows are gone again
+        }
+    }
+
+    private static long count(DSLContext ctx, String table) {
+        return ctx.fetchSingle("SELECT count(*) FROM " + table + " WHERE invoice_date = DATE '2041-03-05'").get(0, Long.class);
+    }
+}
@@ -0,0 +1,140 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbProductKey;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.test.PostgresResource;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+
+/**
+ * Explains every read query of the repositories against a seeded and analysed database and fails if PostgreSQL
+ * would answer one of them with a sequential scan, other than of a nearly empty invoice partition. The tables have to
+ * be large enough for an index to beat reading them whole, a few hundred products fit into a handful of pages. Full-table reads by design (the NDJSON customer export and the
+ * import merge) are not checked. The seed data is rolled back, so the other tests do not see it.
+ */
+@QuarkusTest
+@QuarkusTestResource(PostgresResource.class)
+public class RepositoryQueryPlanTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private static final String SEED = """
+            INSERT INTO customer (first_name, last_name, email)
+            SELECT 'Plan', 'Customer ' || g, 'plan-' || g || '@example.com' FROM generate_series(1, 5000) g;
+            INSERT INTO address (customer_id, street, city, country)
+            SELECT customer_id, 'Main Street ' || customer_id, 'Vienna', 'Austria' FROM customer WHERE email LIKE 'plan-%';
+            INSERT INTO product (product_name, price)
+            SELECT 'Plan product ' || g, g + 0.99 FROM generate_series(1, 20000) g;
+            INSERT INTO invoice (customer_id, invoice_date, total_amount)
+            SELECT customer_id, current_date - g, 0 FROM customer, generate_series(1, 3) g WHERE email LIKE 'plan-%';
+            INSERT INTO invoice_item (invoice_id, product_id, quantity, unit_price, invoice_date)
+            SELECT i.invoice_id, p.product_id, 1, p.price, i.invoice_date
+            FROM invoice i
+            CROSS JOIN generate_series(0, 2) k
+            JOIN product p ON p.product_name = 'Plan product ' || ((i.invoice_id + k) % 20000 + 1);
+            INSERT INTO customer_summary (customer_id, invoice_count, total_revenue, last_invoice_date)
+            SELECT i.customer_id, count(*), sum(i.total_amount), max(i.invoice_date)
+            FROM invoice i JOIN customer c ON c.customer_id = i.customer_id
+            WHERE c.email LIKE 'plan-%'
+            GROUP BY i.customer_id;
+            ANALYZE;
+            """;
+
+    @Inject
+    DSLContext dsl;
+
+    private static class Rollback extends RuntimeException {
+    }
+
+    @Test
+    public void testRepositoryQueriesUseIndexes() {
+        List<String> seqScans = new ArrayList<>();
+        try {
+            dsl.transaction(configuration -> {
+                var ctx = DSL.using(configuration);
+                ctx.execute(SEED);
+                seqScans.addAll(findSeqScans(ctx));
+                throw new Rollback();
+            });
+        } catch (Rollback expected) {
+            // seed data discarded
+        }
+        assertThat(seqScans, empty());
+    }
+
+    static List<String> findSeqScans(DSLContext ctx) {
+        int customerId = ctx.fetchSingle("SELECT min(customer_id) FROM customer WHERE email LIKE 'plan-%'").get(0, Integer.class);
+        int invoiceId = ctx.fetchSingle("SELECT min(invoice_id) FROM invoice WHERE customer_id = ?", customerId).get(0, Integer.class);
+
+        var reads = new ReadRouter(ctx, ctx);
+        var customers = new CustomerRepository(ctx, reads, null);
+        var addresses = new AddressRepository(ctx, reads, null);
+        var invoices = new InvoiceRepository(ctx, reads, null, null, null, true);
+
+        List<String> seqScans = new ArrayList<>();
+        seqScans.addAll(seqScans(ctx, "CustomerRepository.findPage", customers.pageQuery(customerId, 100)));
+        seqScans.addAll(seqScans(ctx, "CustomerRepository.findOverview", customers.overviewQuery(customerId)));
+        seqScans.addAll(seqScans(ctx, "CustomerRepository.findSummary", customers.summaryQuery(customerId)));
+        seqScans.addAll(seqScans(ctx, "AddressRepository.findAllByCustomerId", addresses.findAllByCustomerId.sql(), customerId));
+        seqScans.addAll(seqScans(ctx, "InvoiceRepository.findAllByCustomerId", invoices.findAllByCustomerId.sql(), customerId));
+        seqScans.addAll(seqScans(ctx, "InvoiceRepository.findAllByCustomerIdBetween", invoices.betweenQuery(customerId, LocalDate.now().minusDays(3), LocalDate.now())));
+        seqScans.addAll(seqScans(ctx, "InvoiceRepository.findItemsByInvoiceId", invoices.findItemsByInvoiceId.sql(), invoiceId, invoiceId));
+        seqScans.addAll(seqScans(ctx, "InvoiceRepository.findDetailJson", invoices.detailJsonQuery(invoiceId)));
+        seqScans.addAll(seqScans(ctx, "ProductRepository.resolveIds", ProductRepository.existingQuery(ctx, List.of(
+                new DbProductKey("Plan product 1", 199),
+                new DbProductKey("Plan product 2", 299)
+        ))));
+        return seqScans;
+    }
+
+    private static List<String> seqScans(DSLContext ctx, String name, Query query) {
+        return seqScans(ctx, name, ctx.render(query), query.getBindValues().toArray());
+    }
+
+    /**
+     * One {@code "name: Seq Scan on table"} entry per sequential scan anywhere in the plan, sub-plans included.
+     */
+    private static List<String> seqScans(DSLContext ctx, String name, String sql, Object... bindValues) {
+        String plan = ctx.fetchSingle("EXPLAIN (FORMAT JSON) " + sql, bindValues).get(0, String.class);
+        List<String> seqScans = new ArrayList<>();
+        try {
+            collectSeqScans(ctx, JSON.readTree(plan).get(0).get("Plan"), name, seqScans);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return seqScans;
+    }
+
+    private static void collectSeqScans(DSLContext ctx, JsonNode node, String name, List<String> seqScans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText()) && !isTinyPartition(ctx, node.path("Relation Name").asText())) {
+            seqScans.add(name + ": Seq Scan on " + node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSeqScans(ctx, child, name, seqScans);
+        }
+    }
+
+    /**
+     * Queries without a date bound visit every invoice partition, and reading an empty or single-page one whole costs
+     * no more than an index probe.
+     */
+    private static boolean isTinyPartition(DSLContext ctx, String relation) {
+        return ctx.fetchSingle("SELECT relispartition AND relpages <= 1 FROM pg_class WHERE oid = ?::regclass", relation)
+                .get(0, Boolean.class);
+    }
+}
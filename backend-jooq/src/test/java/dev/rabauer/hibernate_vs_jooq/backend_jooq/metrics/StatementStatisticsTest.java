@@ -0,0 +1,82 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class StatementStatisticsTest {
+
+    @Test
+    void normalizesLiteralsAndValueLists() {
+        assertThat(StatementStatistics.normalize("select * from \"customer\" where \"customer_id\" in (?, ?, ?)"),
+                is("select * from \"customer\" where \"customer_id\" in (...)"));
+        assertThat(StatementStatistics.normalize("insert into \"product\" (\"product_name\", \"price\")\n"
+                        + "values (?, ?), (?, ?),  (?, ?)"),
+                is("insert into \"product\" (\"product_name\", \"price\") values (...)"));
+        assertThat(StatementStatistics.normalize("select \"t1\".\"c2\" from \"t1\" where \"c2\" = 'it''s' and \"c3\" > 4.5 limit $1"),
+                is("select \"t1\".\"c2\" from \"t1\" where \"c2\" = ? and \"c3\" > ? limit $1"));
+    }
+
+    @Test
+    void countsStatementsByFingerprint() {
+        var statistics = new StatementStatistics(5000, Duration.ofMinutes(1), 1.0, false);
+
+        statistics.fingerprint("select * from \"customer\" where \"customer_id\" in (?, ?)").record("", 2_000_000, 2, List::of);
+        statistics.fingerprint("select * from \"customer\" where \"customer_id\" in (?, ?, ?)").record("", 4_000_000, 3, List::of);
+        statistics.fingerprint("select 1").record("", 1_000_000, 1, List::of);
+
+        List<StatementStatistics.Summary> summaries = statistics.summaries(10);
+        assertThat(summaries, hasSize(2));
+        var customers = summaries.getFirst();
+        assertThat(customers.fingerprint(), is("select * from \"customer\" where \"customer_id\" in (...)"));
+        assertThat(customers.calls(), is(2L));
+        assertThat(customers.rows(), is(5L));
+        assertThat(customers.totalMillis(), is(6.0));
+        assertThat(customers.meanMillis(), is(3.0));
+        assertThat(customers.p99Millis(), is(4.0));
+        assertThat(customers.maxMillis(), is(4.0));
+    }
+
+    @Test
+    void p99IsTheUpperBoundOfItsBucket() {
+        var statistics = new StatementStatistics(5000, Duration.ofMinutes(1), 1.0, false);
+        var fingerprint = statistics.fingerprint("select 1");
+        for (int i = 1; i <= 1000; i++) {
+            fingerprint.record("", i * 1_000_000L, 1, List::of);
+        }
+
+        long p99 = fingerprint.percentile(0.99);
+        assertThat(p99, greaterThanOrEqualTo(990_000_000L));
+        assertThat(p99, lessThanOrEqualTo((long) (990_000_000L * 1.25)));
+    }
+
+    @Test
+    void foldsFingerprintsBeyondTheLimitIntoOther() {
+        var statistics = new StatementStatistics(2, Duration.ofMinutes(1), 1.0, false);
+
+        statistics.fingerprint("select \"a\"").record("", 1, 1, List::of);
+        statistics.fingerprint("select \"b\"").record("", 1, 1, List::of);
+        statistics.fingerprint("select \"c\"").record("", 1, 1, List::of);
+        statistics.fingerprint("select \"d\"").record("", 1, 1, List::of);
+
+        assertThat(statistics.summaries(10).stream().map(StatementStatistics.Summary::fingerprint).toList(),
+                containsInAnyOrder("select \"a\"", "select \"b\"", StatementStatistics.OTHER));
+    }
+
+    @Test
+    void resetKeepsTheFingerprints() {
+        var statistics = new StatementStatistics(5000, Duration.ofMinutes(1), 1.0, false);
+        var fingerprint = statistics.fingerprint("select 1");
+        fingerprint.record("", 1_000_000, 1, List::of);
+
+        statistics.reset();
+        assertThat(statistics.summaries(10), empty());
+
+        fingerprint.record("", 1_000_000, 1, List::of);
+        assertThat(statistics.summaries(10).getFirst().calls(), is(1L));
+    }
+}
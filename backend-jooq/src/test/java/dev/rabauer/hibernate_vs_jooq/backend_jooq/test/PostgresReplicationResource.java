@@ -0,0 +1,69 @@
+package dev.rabauer.hibernate_vs_jooq.backend_jooq.test;
+
+import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.Transferable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A primary and a streaming replica cloned from it with {@code pg_basebackup}, bound to the default and the
+ * {@code replica} datasource.
+ */
+public class PostgresReplicationResource implements QuarkusTestResourceLifecycleManager {
+
+    private static final String IMAGE = "postgres:latest";
+
+    private final Network network = Network.newNetwork();
+
+    private final PostgreSQLContainer<?> primary = new PostgreSQLContainer<>(IMAGE)
+            .withNetwork(network)
+            .withNetworkAliases("primary")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test")
+            // the image only allows regular connections from other hosts
+            .withCopyToContainer(Transferable.of("echo 'host replication test all scram-sha-256' >> \"$PGDATA/pg_hba.conf\"\n"),
+                    "/docker-entrypoint-initdb.d/allow-replication.sh");
+
+    // runs as root: clones the primary, hands the data directory to postgres and starts it as a hot standby
+    private final GenericContainer<?> replica = new GenericContainer<>(IMAGE)
+            .withNetwork(network)
+            .withEnv("PGPASSWORD", "test")
+            .withExposedPorts(PostgreSQLContainer.POSTGRESQL_PORT)
+            .withCommand("bash", "-c", """
+                    set -e
+                    pg_basebackup --host=primary --username=test --pgdata="$PGDATA" --wal-method=stream --write-recovery-conf
+                    chown -R postgres:postgres "$PGDATA"
+                    chmod 700 "$PGDATA"
+                    exec gosu postgres postgres
+                    """)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept read-only connections.*\\s", 1));
+
+    @Override
+    public Map<String, String> start() {
+        primary.start();
+        replica.start();
+        Map<String, String> props = new HashMap<>();
+        props.put("quarkus.datasource.jdbc.url", primary.getJdbcUrl());
+        props.put("quarkus.datasource.username", primary.getUsername());
+        props.put("quarkus.datasource.password", primary.getPassword());
+        props.put("quarkus.datasource.replica.jdbc.url", "jdbc:postgresql://" + replica.getHost() + ":"
+                + replica.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + primary.getDatabaseName());
+        props.put("quarkus.datasource.replica.username", primary.getUsername());
+        props.put("quarkus.datasource.replica.password", primary.getPassword());
+        props.put("quarkus.flyway.migrate-at-start", "true");
+        return props;
+    }
+
+    @Override
+    public void stop() {
+        replica.stop();
+        primary.stop();
+        network.close();
+    }
+}
@@ -21,6 +21,10 @@ public class PostgresResource implements QuarkusTestResourceLifecycleManager {
         props.put("quarkus.datasource.username", postgres.getUsername());
         props.put("quarkus.datasource.password", postgres.getPassword());
         props.put("quarkus.datasource.db-kind", "postgresql");
+        // no replica here, reads go to the same database
+        props.put("quarkus.datasource.replica.jdbc.url", postgres.getJdbcUrl());
+        props.put("quarkus.datasource.replica.username", postgres.getUsername());
+        props.put("quarkus.datasource.replica.password", postgres.getPassword());
         // ensure Flyway uses the same datasource
         props.put("quarkus.flyway.migrate-at-start", "true");
         return props;
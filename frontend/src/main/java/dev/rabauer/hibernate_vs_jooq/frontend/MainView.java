@@ -1,5 +1,8 @@
 package dev.rabauer.hibernate_vs_jooq.frontend;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.github.javafaker.Faker;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.dialog.Dialog;
@@ -13,15 +16,20 @@ import com.vaadin.flow.component.textfield.NumberField;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.router.Route;
 import dev.rabauer.hibernate_vs_jooq.frontend.client.BackendClient;
+import dev.rabauer.hibernate_vs_jooq.frontend.client.ReadYourWritesCookie;
 import dev.rabauer.hibernate_vs_jooq.frontend.dto.*;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.WebApplicationException;
 
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -30,12 +38,21 @@ import com.vaadin.flow.component.notification.Notification;
 @Route("")
 public class MainView extends VerticalLayout {
 
+    private static final int CUSTOMER_PAGE_SIZE = 1000;
+    private static final int BULK_CHUNK_SIZE = 1000;
+
     @Inject
     @RestClient
     BackendClient client;
 
+    @Inject
+    ObjectMapper objectMapper;
+
     private Grid<ApiCustomer> customerGrid = new Grid<>(ApiCustomer.class, false);
 
+    // false once the backend answered POST /customer/bulk with 404 or 405, as backend-jooq-reactive does
+    private volatile boolean bulkImportSupported = true;
+
     public MainView() {
         setSizeFull();
         add(new H3("Customers"));
@@ -62,7 +79,8 @@ public class MainView extends VerticalLayout {
             var start = Instant.now();
             System.out.println("Starting customer generation: count=" + count + " at " + start);
 
-            java.util.concurrent.CompletableFuture.runAsync(() -> {
+            // the imports and the final refresh share the session's read-your-writes cookie
+            java.util.concurrent.CompletableFuture.runAsync(ReadYourWritesCookie.inCurrentSession(() -> {
                 // Ensure the thread has the correct context class loader so the REST client and JSON providers
                 // can find the DTO classes when executing on the common ForkJoin pool.
                 ClassLoader prevCl = Thread.currentThread().getContextClassLoader();
@@ -70,18 +88,21 @@ public class MainView extends VerticalLayout {
                 try {
                     Faker faker = new Faker();
                     AtomicInteger success = new java.util.concurrent.atomic.AtomicInteger(0);
+                    // send chunks to the bulk endpoint instead of one request per customer
+                    var writer = objectMapper.writerFor(ApiNewCustomer.class);
+                    var chunk = new ArrayList<ApiNewCustomer>(BULK_CHUNK_SIZE);
                     for (int i = 1; i <= count; i++) {
-                        ApiNewCustomer payload = new ApiNewCustomer(faker.name().firstName(), faker.name().lastName(), faker.internet().emailAddress(Instant.now().getEpochSecond() + "" + i));
-                        try {
-                            client.createCustomer(payload);
-                            success.incrementAndGet();
-                        } catch (Exception ex) {
-                            System.err.println("Failed creating customer #" + i + ": " + ex.getMessage());
-                        }
-                        if (i % 1000 == 0) {
-                            System.out.println("Created " + i + " customers so far at " + Instant.now());
+                        chunk.add(new ApiNewCustomer(faker.name().firstName(), faker.name().lastName(), faker.internet().emailAddress(Instant.now().getEpochSecond() + "" + i)));
+                        if (i % BULK_CHUNK_SIZE == 0 || i == count) {
+                            try {
+                                success.addAndGet(importCustomers(chunk, writer));
+                            } catch (Exception ex) {
+                                System.err.println("Failed importing customers up to #" + i + ": " + ex.getMessage());
+                            }
+                            chunk.clear();
+                            System.out.println("Created " + success.get() + " customers so far at " + Instant.now());
                             // Show a short progress notification on the UI thread
-                            final int createdAmount = i;
+                            final int createdAmount = success.get();
                             getUI().ifPresent(ui -> ui.access(() -> {
                                 Notification.show("Created " + createdAmount + " customers so far", 1000, Notification.Position.TOP_CENTER);
                             }));
@@ -99,10 +120,12 @@ public class MainView extends VerticalLayout {
                         generateCustomers.setEnabled(true);
                         bulkCount.setEnabled(true);
                     }));
+                } catch (JsonProcessingException ex) {
+                    throw new UncheckedIOException(ex);
                 } finally {
                     Thread.currentThread().setContextClassLoader(prevCl);
                 }
-            }).exceptionally(ex -> {
+            })).exceptionally(ex -> {
                 ex.printStackTrace();
                 getUI().ifPresent(ui -> ui.access(() -> {
                     generateCustomers.setEnabled(true);
@@ -131,9 +154,18 @@ public class MainView extends VerticalLayout {
         var start = Instant.now();
         System.out.println("Fetching customers: start=" + start);
 
-        List<ApiCustomer> list;
+        List<ApiCustomer> list = new ArrayList<>();
         try {
-            list = client.getCustomers();
+            // follow the keyset cursor until the backend returns a partial page
+            List<ApiCustomer> page;
+            int after = 0;
+            do {
+                page = client.getCustomers(after, CUSTOMER_PAGE_SIZE);
+                list.addAll(page);
+                if (!page.isEmpty()) {
+                    after = page.get(page.size() - 1).id();
+                }
+            } while (page.size() == CUSTOMER_PAGE_SIZE);
         } catch (Exception ex) {
             System.err.println("Failed to fetch customers: " + ex.getMessage());
             Notification.show("Failed to load customers: " + ex.getMessage(), 3000, Notification.Position.TOP_CENTER);
@@ -148,6 +180,40 @@ public class MainView extends VerticalLayout {
         customerGrid.setItems(list);
     }
 
+    /**
+     * Sends {@code customers} as one NDJSON chunk to {@code POST /customer/bulk}, or one by one to
+     * {@code POST /customer} if the backend has no bulk endpoint. Returns how many were created.
+     */
+    int importCustomers(List<ApiNewCustomer> customers, ObjectWriter writer) throws JsonProcessingException {
+        if (bulkImportSupported) {
+            var ndjson = new StringBuilder();
+            for (ApiNewCustomer customer : customers) {
+                ndjson.append(writer.writeValueAsString(customer)).append('\n');
+            }
+            try {
+                ApiBulkImportResult result = client.importCustomers(ndjson.toString());
+                return (int) result.imported();
+            } catch (WebApplicationException ex) {
+                int status = ex.getResponse().getStatus();
+                if (status != 404 && status != 405) {
+                    throw ex;
+                }
+                System.out.println("Backend has no POST /customer/bulk (" + status + "), creating customers one by one");
+                bulkImportSupported = false;
+            }
+        }
+        int created = 0;
+        for (ApiNewCustomer customer : customers) {
+            try {
+                client.createCustomer(customer);
+                created++;
+            } catch (Exception ex) {
+                System.err.println("Failed creating customer " + customer.email() + ": " + ex.getMessage());
+            }
+        }
+        return created;
+    }
+
     private void openAddCustomer() {
         Dialog d = new Dialog();
         d.add(new H3("Add Customer"));
@@ -184,7 +250,7 @@ public class MainView extends VerticalLayout {
         Grid<ApiInvoice> invoiceGrid = new Grid<>(ApiInvoice.class, false);
         invoiceGrid.addColumn(ApiInvoice::id).setHeader("ID");
         invoiceGrid.addColumn(ApiInvoice::timestamp).setHeader("Date");
-        invoiceGrid.addColumn(ApiInvoice::totalAmount).setHeader("Total");
+        invoiceGrid.addColumn(inv -> amount(inv.totalAmountCents())).setHeader("Total");
         invoiceGrid.setItems(client.getInvoices(customer.id()));
         // open invoice detail when clicking a row
         invoiceGrid.addItemClickListener(event -> openInvoiceDetail(event.getItem().id()));
@@ -202,7 +268,7 @@ public class MainView extends VerticalLayout {
         Grid<ApiInvoiceDetail.ApiInvoiceItem> items = new Grid<>(ApiInvoiceDetail.ApiInvoiceItem.class, false);
         items.addColumn(it -> it.product().name()).setHeader("Product");
         items.addColumn(ApiInvoiceDetail.ApiInvoiceItem::quantity).setHeader("Qty");
-        items.addColumn(it -> it.product().price()).setHeader("Unit Price");
+        items.addColumn(it -> amount(it.product().priceCents())).setHeader("Unit Price");
         items.setItems(detail.items());
         d.add(items);
         d.open();
@@ -222,7 +288,8 @@ public class MainView extends VerticalLayout {
         form.add(product, price, quantity);
 
         Button submit = new Button("Create", e -> {
-            ApiNewInvoice.ApiNewInvoiceItem item = new ApiNewInvoice.ApiNewInvoiceItem(product.getValue(), price.getValue(), quantity.getValue().intValue());
+            ApiNewInvoice.ApiNewInvoiceItem item = new ApiNewInvoice.ApiNewInvoiceItem(product.getValue(),
+                    Math.round(price.getValue() * 100), quantity.getValue().intValue());
             ApiNewInvoice inv = new ApiNewInvoice(customer.id(), Instant.now(), java.util.List.of(item));
             client.createInvoice(inv);
             d.close();
@@ -231,4 +298,9 @@ public class MainView extends VerticalLayout {
         d.add(form, new HorizontalLayout(submit, cancel));
         d.open();
     }
+
+    // the API has money in cents
+    private static BigDecimal amount(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
 }
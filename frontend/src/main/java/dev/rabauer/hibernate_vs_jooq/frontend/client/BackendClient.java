@@ -1,6 +1,7 @@
 package dev.rabauer.hibernate_vs_jooq.frontend.client;
 
 import dev.rabauer.hibernate_vs_jooq.frontend.dto.*;
+import org.eclipse.microprofile.rest.client.annotation.RegisterProvider;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 
 import jakarta.ws.rs.*;
@@ -8,20 +9,31 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import java.util.List;
 
+/**
+ * Asks for Smile (see {@link SmileMessageBodyReader}) and falls back to JSON with backends that do not offer it.
+ * Responses come compressed when {@code quarkus.rest-client.backend-api.enable-compression} is on. Each Vaadin
+ * session brings back its read-your-writes cookie, see {@link ReadYourWritesCookie}.
+ */
 @Path("/")
 @RegisterRestClient(configKey = "backend-api")
-@Produces(MediaType.APPLICATION_JSON)
+@RegisterProvider(ReadYourWritesCookie.class)
+@Produces({SmileMessageBodyReader.APPLICATION_SMILE, MediaType.APPLICATION_JSON + ";q=0.5"})
 @Consumes(MediaType.APPLICATION_JSON)
 public interface BackendClient {
 
     @GET
     @Path("customer")
-    List<ApiCustomer> getCustomers();
+    List<ApiCustomer> getCustomers(@QueryParam("after") int after, @QueryParam("limit") int limit);
 
     @POST
     @Path("customer")
     ApiCustomer createCustomer(ApiNewCustomer newCustomer);
 
+    @POST
+    @Path("customer/bulk")
+    @Consumes("application/x-ndjson")
+    ApiBulkImportResult importCustomers(String ndjson);
+
     @GET
     @Path("customer/{id}/addresses")
     List<ApiAddress> getAddresses(@PathParam("id") int customerId);
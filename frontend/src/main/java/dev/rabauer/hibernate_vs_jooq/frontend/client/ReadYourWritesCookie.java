@@ -0,0 +1,85 @@
+package dev.rabauer.hibernate_vs_jooq.frontend.client;
+
+import com.vaadin.flow.server.VaadinSession;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.NewCookie;
+
+/**
+ * The backends' read-your-writes cookie, kept per Vaadin session: a write answers with {@value #COOKIE}, and the
+ * session sends it back with its following requests so they read from the primary until the replica caught up. All
+ * sessions share the one {@link BackendClient}, so the cookie can't live in the client.
+ * <p>
+ * Requests made on a UI thread, i.e. with the session locked, use that session's cookie. Background tasks don't have
+ * a session and are wrapped with {@link #inCurrentSession(Runnable)} on the UI thread that starts them.
+ */
+public class ReadYourWritesCookie implements ClientRequestFilter, ClientResponseFilter {
+
+    public static final String COOKIE = "read-primary-until";
+
+    private static final String PROPERTY = ReadYourWritesCookie.class.getName();
+    private static final ThreadLocal<Value> BOUND = new ThreadLocal<>();
+
+    /**
+     * Wraps {@code task} to make its requests with the cookie of the current session; must be called on a UI thread.
+     */
+    public static Runnable inCurrentSession(Runnable task) {
+        Value value = current();
+        return () -> {
+            Value previous = BOUND.get();
+            BOUND.set(value);
+            try {
+                task.run();
+            } finally {
+                BOUND.set(previous);
+            }
+        };
+    }
+
+    @Override
+    public void filter(ClientRequestContext request) {
+        Value value = current();
+        if (value == null) {
+            return;
+        }
+        // the response filter runs on an I/O thread, which has neither the session nor the bound value
+        request.setProperty(PROPERTY, value);
+        String cookie = value.cookie;
+        if (cookie != null) {
+            request.getHeaders().add(HttpHeaders.COOKIE, COOKIE + "=" + cookie);
+        }
+    }
+
+    @Override
+    public void filter(ClientRequestContext request, ClientResponseContext response) {
+        NewCookie cookie = response.getCookies().get(COOKIE);
+        if (cookie != null && request.getProperty(PROPERTY) instanceof Value value) {
+            value.cookie = cookie.getMaxAge() == 0 ? null : cookie.getValue();
+        }
+    }
+
+    private static Value current() {
+        Value bound = BOUND.get();
+        if (bound != null) {
+            return bound;
+        }
+        VaadinSession session = VaadinSession.getCurrent();
+        if (session == null || !session.hasLock()) {
+            return null;
+        }
+        Value value = session.getAttribute(Value.class);
+        if (value == null) {
+            value = new Value();
+            session.setAttribute(Value.class, value);
+        }
+        return value;
+    }
+
+    // the session attribute; written from I/O threads, which don't hold the session lock
+    private static final class Value {
+        private volatile String cookie;
+    }
+}
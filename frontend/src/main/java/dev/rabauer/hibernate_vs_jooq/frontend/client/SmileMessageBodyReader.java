@@ -0,0 +1,43 @@
+package dev.rabauer.hibernate_vs_jooq.frontend.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Reads {@value #APPLICATION_SMILE} responses, the binary JSON the backends send when {@link BackendClient} asks for
+ * it, into the same DTOs as JSON.
+ */
+@Provider
+@Consumes(SmileMessageBodyReader.APPLICATION_SMILE)
+public class SmileMessageBodyReader implements MessageBodyReader<Object> {
+
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+
+    private final ObjectMapper smileMapper;
+
+    public SmileMessageBodyReader(ObjectMapper objectMapper) {
+        // the application's mapper with all its modules and settings, parsing Smile instead of text
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return true;
+    }
+
+    @Override
+    public Object readFrom(Class<Object> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                           MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException {
+        return smileMapper.readValue(entityStream, smileMapper.constructType(genericType));
+    }
+}
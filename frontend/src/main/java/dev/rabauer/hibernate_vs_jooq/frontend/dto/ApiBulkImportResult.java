@@ -0,0 +1,9 @@
+package dev.rabauer.hibernate_vs_jooq.frontend.dto;
+
+import java.util.List;
+
+public record ApiBulkImportResult(long received, long imported, long rejected, List<ApiRejectedRow> rejectedRows) {
+
+    public record ApiRejectedRow(long line, String email, String reason) {
+    }
+}
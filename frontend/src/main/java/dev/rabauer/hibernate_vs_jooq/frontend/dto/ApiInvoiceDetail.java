@@ -7,6 +7,6 @@ public record ApiInvoiceDetail(List<ApiInvoiceItem> items) {
     public record ApiInvoiceItem(int quantity, ApiProduct product) {
     }
 
-    public record ApiProduct(String name, double price) {
+    public record ApiProduct(String name, long priceCents) {
     }
 }
@@ -10,7 +10,7 @@ public record ApiNewInvoice(
 ) {
     public record ApiNewInvoiceItem(
             String productName,
-            double price,
+            long priceCents,
             int quantity
     ) {
     }
@@ -7,6 +7,7 @@ import com.vaadin.flow.data.provider.Query;
 import dev.rabauer.hibernate_vs_jooq.frontend.dto.ApiCustomer;
 import dev.rabauer.hibernate_vs_jooq.frontend.dto.ApiInvoice;
 import dev.rabauer.hibernate_vs_jooq.frontend.dto.ApiInvoiceDetail;
+import dev.rabauer.hibernate_vs_jooq.frontend.dto.ApiNewCustomer;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.Mock;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
@@ -37,11 +38,11 @@ public class MainViewKaribuTest {
     @BeforeEach
     void setup() {
         // mock backend client responses before creating view
-        org.mockito.Mockito.when(backendClient.getCustomers()).thenReturn(java.util.List.of(new ApiCustomer(1, "Alice", "Smith", "alice@example.com")));
+        org.mockito.Mockito.when(backendClient.getCustomers(org.mockito.Mockito.anyInt(), org.mockito.Mockito.anyInt())).thenReturn(java.util.List.of(new ApiCustomer(1, "Alice", "Smith", "alice@example.com")));
         org.mockito.Mockito.when(backendClient.getAddresses(org.mockito.Mockito.anyInt())).thenReturn(java.util.List.of(new dev.rabauer.hibernate_vs_jooq.frontend.dto.ApiAddress("Main St 1", "Town", "Country")));
         ApiInvoice inv = new ApiInvoice(1, java.time.Instant.parse("2025-01-01T00:00:00Z"), 2500);
         org.mockito.Mockito.when(backendClient.getInvoices(org.mockito.Mockito.anyInt())).thenReturn(java.util.List.of(inv));
-        ApiInvoiceDetail.ApiProduct prod = new ApiInvoiceDetail.ApiProduct( "Gadget", 12.5);
+        ApiInvoiceDetail.ApiProduct prod = new ApiInvoiceDetail.ApiProduct( "Gadget", 1250);
         ApiInvoiceDetail.ApiInvoiceItem item = new ApiInvoiceDetail.ApiInvoiceItem(2, prod);
         ApiInvoiceDetail detail = new ApiInvoiceDetail(java.util.List.of(item));
         org.mockito.Mockito.when(backendClient.getInvoiceDetail(org.mockito.Mockito.anyInt())).thenReturn(detail);
@@ -68,4 +69,18 @@ public class MainViewKaribuTest {
         ApiCustomer customer = (ApiCustomer) first;
         assertEquals("Alice", customer.firstName());
     }
+
+    @Test
+    public void createsCustomersOneByOneWithoutBulkEndpoint() throws Exception {
+        org.mockito.Mockito.when(backendClient.importCustomers(org.mockito.Mockito.anyString())).thenThrow(new jakarta.ws.rs.WebApplicationException(405));
+        MainView view = mainViewInstance.get();
+        var writer = new com.fasterxml.jackson.databind.ObjectMapper().writerFor(ApiNewCustomer.class);
+        var customers = List.of(new ApiNewCustomer("Alice", "Smith", "alice@example.com"), new ApiNewCustomer("Bob", "Jones", "bob@example.com"));
+
+        assertEquals(2, view.importCustomers(customers, writer));
+        assertEquals(2, view.importCustomers(customers, writer));
+        // the bulk endpoint is only tried once
+        org.mockito.Mockito.verify(backendClient, org.mockito.Mockito.times(1)).importCustomers(org.mockito.Mockito.anyString());
+        org.mockito.Mockito.verify(backendClient, org.mockito.Mockito.times(4)).createCustomer(org.mockito.Mockito.any());
+    }
 }
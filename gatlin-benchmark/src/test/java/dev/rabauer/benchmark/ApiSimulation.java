@@ -6,7 +6,11 @@ import static io.gatling.javaapi.core.CoreDsl.*;
 import static io.gatling.javaapi.http.HttpDsl.*;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class ApiSimulation extends Simulation {
 
@@ -53,13 +57,68 @@ public class ApiSimulation extends Simulation {
                             .check(status().is(200))
             ));
 
+    // Line counts per invoice for the invoice scenario (override with -DinvoiceLines=1,10,50,200)
+    List<Object> invoiceLineCounts = Arrays.stream(System.getProperty("invoiceLines", "1,10,50,200").split(","))
+            .map(String::trim)
+            .map(Integer::valueOf)
+            .collect(Collectors.toList());
+    int invoiceRepeats = Integer.getInteger("invoiceRepeats", 20);
+
+    // Scenario: one customer per user, then invoices of growing line counts (reported per line count)
+    ScenarioBuilder invoices = scenario("Invoice line-count scenario")
+            .exec(http("Create customer")
+                    .post("/customer")
+                    .body(StringBody(session -> String.format(
+                            "{\"firstName\":\"Invoice\",\"lastName\":\"Buyer\",\"email\":\"invoice%d_%d@example.com\"}",
+                            System.currentTimeMillis(), i.incrementAndGet())))
+                    .asJson()
+                    .check(status().is(201), jsonPath("$.id").ofInt().saveAs("customerId")))
+            .repeat(invoiceRepeats).on(
+                    foreach(invoiceLineCounts, "lines").on(exec(http("Create invoice (#{lines} lines)")
+                            .post("/invoice")
+                            .body(StringBody(session -> invoiceBody(session.getInt("customerId"), session.getInt("lines"))))
+                            .asJson()
+                            .check(status().is(201)))));
+
+    private String invoiceBody(int customerId, int lines) {
+        int invoiceNo = i.incrementAndGet();
+        String items = IntStream.range(0, lines)
+                .mapToObj(line -> String.format(
+                        "{\"productName\":\"Product %d-%d\",\"priceCents\":%d,\"quantity\":%d}",
+                        invoiceNo, line, line % 100 * 100 + 99, 1 + line % 5))
+                .collect(Collectors.joining(","));
+        return String.format(
+                "{\"customerId\":%d,\"timestamp\":\"%s\",\"invoiceItemList\":[%s]}",
+                customerId, java.time.Instant.now(), items);
+    }
+
+    int overviewInvoices = Integer.getInteger("overviewInvoices", 10);
+
+    // Scenario: one customer with overviewInvoices invoices per user, then repeated reads of the whole overview
+    ScenarioBuilder overview = scenario("Customer overview scenario")
+            .exec(http("Create customer")
+                    .post("/customer")
+                    .body(StringBody(session -> String.format(
+                            "{\"firstName\":\"Overview\",\"lastName\":\"Reader\",\"email\":\"overview%d_%d@example.com\"}",
+                            System.currentTimeMillis(), i.incrementAndGet())))
+                    .asJson()
+                    .check(status().is(201), jsonPath("$.id").ofInt().saveAs("customerId")))
+            .repeat(overviewInvoices).on(exec(http("Create invoice")
+                    .post("/invoice")
+                    .body(StringBody(session -> invoiceBody(session.getInt("customerId"), 10)))
+                    .asJson()
+                    .check(status().is(201))))
+            .repeat(repeatsPerUser).on(exec(http("Customer overview")
+                    .get("/customer/#{customerId}/overview")
+                    .check(status().is(200))));
+
     // Scenario: single request to measure a single response time (use -Dmode=single)
     ScenarioBuilder single = scenario("Single GET measure")
             .exec(http("List customers")
                     .get("/customer")
                     .check(status().is(200)));
 
-    // Choose mode with -Dmode=single | mixed | bulk (default: bulk)
+    // Choose mode with -Dmode=single | mixed | invoice | overview | bulk (default: bulk)
     String mode = System.getProperty("mode", "bulk");
 
     {
@@ -70,6 +129,12 @@ public class ApiSimulation extends Simulation {
     } else if ("mixed".equalsIgnoreCase(mode)) {
         // concurrentUsers executing the mixed workload once each (you can tune injection)
         setUp(mixed.injectOpen(atOnceUsers(concurrentUsers))).protocols(httpProtocol);
+    } else if ("invoice".equalsIgnoreCase(mode)) {
+        // concurrentUsers each posting invoiceRepeats rounds of invoices with invoiceLines line counts
+        setUp(invoices.injectOpen(atOnceUsers(concurrentUsers))).protocols(httpProtocol);
+    } else if ("overview".equalsIgnoreCase(mode)) {
+        // concurrentUsers each building up a customer and then reading its overview repeatsPerUser times
+        setUp(overview.injectOpen(atOnceUsers(concurrentUsers))).protocols(httpProtocol);
     } else {
         // bulk mode: totalRequests spread across concurrentUsers (default)
         setUp(bulkGet.injectOpen(atOnceUsers(concurrentUsers))).protocols(httpProtocol);
@@ -0,0 +1,122 @@
+package dev.rabauer.hibernate_vs_jooq.benchmarks;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.configuration.supplier.AgroalDataSourceConfigurationSupplier;
+import io.agroal.api.security.NamePrincipal;
+import io.agroal.api.security.SimplePassword;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Customer.CUSTOMER;
+import static dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Invoice.INVOICE;
+import static dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.InvoiceItem.INVOICE_ITEM;
+import static dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Product.PRODUCT;
+import static org.jooq.impl.DSL.select;
+
+/**
+ * Connection to the already migrated database of the docker-compose setup, and the rows the benchmarks seed into it.
+ * Override with {@code -Djdbc.url=... -Djdbc.user=... -Djdbc.password=...}.
+ */
+final class BenchmarkDatabase {
+
+    static final String URL = System.getProperty("jdbc.url", "jdbc:postgresql://localhost:15432/hibernate-vs-jooq");
+    static final String USER = System.getProperty("jdbc.user", "dbuser");
+    static final String PASSWORD = System.getProperty("jdbc.password", "not-secure");
+
+    record SeededInvoice(int customerId, int invoiceId) {
+    }
+
+    private BenchmarkDatabase() {
+    }
+
+    static Connection connect() throws SQLException {
+        return DriverManager.getConnection(URL, USER, PASSWORD);
+    }
+
+    /**
+     * A connection pool as Quarkus builds it for the backends' datasource, Agroal with its default maximum size of 20,
+     * and {@code jdbcProperties} as the backend's {@code quarkus.datasource.jdbc.additional-jdbc-properties}.
+     */
+    static AgroalDataSource dataSource(Map<String, String> jdbcProperties) throws SQLException {
+        return AgroalDataSource.from(new AgroalDataSourceConfigurationSupplier()
+                .connectionPoolConfiguration(pool -> pool
+                        .maxSize(20)
+                        .connectionFactoryConfiguration(factory -> {
+                            factory.jdbcUrl(URL)
+                                    .principal(new NamePrincipal(USER))
+                                    .credential(new SimplePassword(PASSWORD));
+                            jdbcProperties.forEach(factory::jdbcProperty);
+                            return factory;
+                        })));
+    }
+
+    /**
+     * A fresh customer with one invoice of {@code lines} lines. Products are shared between runs.
+     */
+    static SeededInvoice seedInvoice(DSLContext dsl, int lines) {
+        int customerId = seedCustomer(dsl, "Invoice");
+        return new SeededInvoice(customerId, seedInvoice(dsl, customerId, lines));
+    }
+
+    /**
+     * A fresh customer without invoices.
+     */
+    static int seedCustomer(DSLContext dsl, String lastName) {
+        return dsl.insertInto(CUSTOMER)
+                .set(CUSTOMER.FIRST_NAME, "Jmh")
+                .set(CUSTOMER.LAST_NAME, lastName)
+                .set(CUSTOMER.EMAIL, "jmh-" + lastName.toLowerCase() + "-" + System.nanoTime() + "@example.com")
+                .returning(CUSTOMER.CUSTOMER_ID)
+                .fetchOne(CUSTOMER.CUSTOMER_ID);
+    }
+
+    /**
+     * One more invoice of {@code lines} lines for the customer, products {@code "Jmh product <line>"}.
+     */
+    static int seedInvoice(DSLContext dsl, int customerId, int lines) {
+        var invoiceDate = LocalDate.now();
+        int invoiceId = dsl.insertInto(INVOICE)
+                .set(INVOICE.CUSTOMER_ID, customerId)
+                .set(INVOICE.INVOICE_DATE, invoiceDate)
+                .set(INVOICE.TOTAL_AMOUNT, 0L)
+                .returning(INVOICE.INVOICE_ID)
+                .fetchOne(INVOICE.INVOICE_ID);
+        for (int line = 0; line < lines; line++) {
+            long priceCents = line * 100 + 99;
+            int productId = dsl.insertInto(PRODUCT)
+                    .set(PRODUCT.PRODUCT_NAME, "Jmh product " + line)
+                    .set(PRODUCT.PRICE, priceCents)
+                    .onConflict(PRODUCT.PRODUCT_NAME, PRODUCT.PRICE)
+                    .doUpdate()
+                    .set(PRODUCT.PRICE, priceCents)
+                    .returning(PRODUCT.PRODUCT_ID)
+                    .fetchOne(PRODUCT.PRODUCT_ID);
+            dsl.insertInto(INVOICE_ITEM)
+                    .set(INVOICE_ITEM.INVOICE_ID, invoiceId)
+                    .set(INVOICE_ITEM.PRODUCT_ID, productId)
+                    .set(INVOICE_ITEM.QUANTITY, 1 + line % 5)
+                    .set(INVOICE_ITEM.UNIT_PRICE, priceCents)
+                    .set(INVOICE_ITEM.INVOICE_DATE, invoiceDate)
+                    .execute();
+        }
+        return invoiceId;
+    }
+
+    static void delete(DSLContext dsl, SeededInvoice seeded) {
+        delete(dsl, CUSTOMER.CUSTOMER_ID.eq(seeded.customerId()));
+    }
+
+    /**
+     * Deletes the matching customers with their invoices, items and summaries.
+     */
+    static void delete(DSLContext dsl, Condition customers) {
+        dsl.deleteFrom(INVOICE).where(INVOICE.CUSTOMER_ID.in(select(CUSTOMER.CUSTOMER_ID).from(CUSTOMER).where(customers))).execute();
+        dsl.deleteFrom(CUSTOMER).where(customers).execute();
+    }
+}
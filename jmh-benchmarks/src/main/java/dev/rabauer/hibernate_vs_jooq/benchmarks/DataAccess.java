@@ -0,0 +1,49 @@
+package dev.rabauer.hibernate_vs_jooq.benchmarks;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+
+/**
+ * The repository calls behind the endpoints on one data-access layer, wired by hand instead of by Quarkus, so
+ * {@link RepositoryBenchmark} can run the same calls on jOOQ and Hibernate. Each returns what the resource turns
+ * into its response, the rows already mapped to the backend's {@code Api*} DTOs. Not thread-safe.
+ */
+interface DataAccess extends AutoCloseable {
+
+    /**
+     * {@code GET /customer?after=...&limit=...}
+     */
+    Object customerPage(int afterCustomerId, int limit);
+
+    /**
+     * {@code GET /customer/{id}/overview}
+     */
+    Object customerOverview(int customerId);
+
+    /**
+     * {@code GET /invoice/{id}}
+     */
+    Object invoiceDetail(int invoiceId);
+
+    /**
+     * {@code POST /customer}, returns the new id.
+     */
+    int createCustomer(String firstName, String lastName, String email);
+
+    /**
+     * {@code POST /invoice} with {@code lines} lines of the products {@link BenchmarkDatabase} seeds, returns the new
+     * id.
+     */
+    int createInvoice(int customerId, int lines);
+
+    /**
+     * A cache as {@code application.properties} configures it, without metrics.
+     */
+    static Cache cache(String name) {
+        var info = new CaffeineCacheInfo();
+        info.name = name;
+        info.maximumSize = 10_000L;
+        return new CaffeineCacheImpl(info, false);
+    }
+}
@@ -0,0 +1,212 @@
+package dev.rabauer.hibernate_vs_jooq.benchmarks;
+
+import backend_jooq.api.dtos.ApiNewInvoice;
+import backend_jooq.mapper.CustomerMapper;
+import backend_jooq.mapper.InvoiceMapper;
+import backend_jooq.model.Address;
+import backend_jooq.model.Customer;
+import backend_jooq.model.CustomerSummary;
+import backend_jooq.model.Invoice;
+import backend_jooq.model.InvoiceItem;
+import backend_jooq.model.Product;
+import backend_jooq.repositories.CustomerRepository;
+import backend_jooq.repositories.InvoiceRepository;
+import backend_jooq.repositories.ProductRepository;
+import backend_jooq.repositories.TableVersions;
+import io.agroal.api.AgroalDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.HibernatePersistenceConfiguration;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * {@code backend-hibernate}'s repositories on a plain Hibernate {@link EntityManagerFactory}, configured like the
+ * backend's {@code application.properties} and on the same kind of connection pool as {@link JooqDataAccess}. As in
+ * the application, every call gets a fresh persistence context, and the writes run in a transaction whose
+ * synchronizations fire after the commit; it is resource-local here rather than JTA. The entities are not bytecode
+ * enhanced, which Quarkus does at build time.
+ */
+final class HibernateDataAccess implements DataAccess {
+
+    private final AgroalDataSource dataSource;
+    private final EntityManagerFactory factory;
+    private final List<Synchronization> synchronizations = new ArrayList<>();
+    private final Map<Object, Object> resources = new HashMap<>();
+    // the persistence context of the running call, behind the EntityManager the repositories hold
+    private EntityManager current;
+
+    private final CustomerRepository customerRepository;
+    private final InvoiceRepository invoiceRepository;
+
+    HibernateDataAccess() throws SQLException {
+        dataSource = BenchmarkDatabase.dataSource(Map.of("reWriteBatchedInserts", "true"));
+        factory = new HibernatePersistenceConfiguration("benchmarks")
+                .managedClasses(Customer.class, Address.class, Invoice.class, InvoiceItem.class, Product.class, CustomerSummary.class)
+                .property(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, dataSource)
+                .property(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+                .property(AvailableSettings.STATEMENT_BATCH_SIZE, 50)
+                .property(AvailableSettings.ORDER_INSERTS, true)
+                .createEntityManagerFactory();
+        var em = (EntityManager) Proxy.newProxyInstance(EntityManager.class.getClassLoader(), new Class<?>[]{EntityManager.class},
+                (proxy, method, args) -> {
+                    try {
+                        return method.invoke(current, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        var transactions = new Transactions();
+        var versions = new TableVersions(transactions);
+        customerRepository = new CustomerRepository(em, versions);
+        invoiceRepository = new InvoiceRepository(em,
+                new ProductRepository(em, transactions, DataAccess.cache(ProductRepository.PRODUCT_ID_CACHE)),
+                transactions, DataAccess.cache(InvoiceRepository.INVOICE_CACHE), versions);
+    }
+
+    @Override
+    public Object customerPage(int afterCustomerId, int limit) {
+        return read(() -> customerRepository.findPage(afterCustomerId, limit).stream().map(CustomerMapper::dbToApi).toList());
+    }
+
+    @Override
+    public Object customerOverview(int customerId) {
+        return read(() -> CustomerMapper.dbToApi(customerRepository.findOverview(customerId)));
+    }
+
+    @Override
+    public Object invoiceDetail(int invoiceId) {
+        return read(() -> InvoiceMapper.itemsToApiDetail(invoiceRepository.findItemsByInvoiceId(invoiceId)));
+    }
+
+    @Override
+    public int createCustomer(String firstName, String lastName, String email) {
+        return transaction(() -> customerRepository.create(firstName, lastName, email).customerId());
+    }
+
+    @Override
+    public int createInvoice(int customerId, int lines) {
+        var items = new ArrayList<ApiNewInvoice.ApiNewInvoiceItem>(lines);
+        for (int line = 0; line < lines; line++) {
+            items.add(new ApiNewInvoice.ApiNewInvoiceItem("Jmh product " + line, line * 100 + 99, 1 + line % 5));
+        }
+        return transaction(() -> invoiceRepository.createInvoice(new ApiNewInvoice(customerId, Instant.now(), items)));
+    }
+
+    @Override
+    public void close() {
+        factory.close();
+        dataSource.close();
+    }
+
+    private <T> T read(Supplier<T> call) {
+        current = factory.createEntityManager();
+        try {
+            return call.get();
+        } finally {
+            current.close();
+            current = null;
+        }
+    }
+
+    private <T> T transaction(Supplier<T> call) {
+        return read(() -> {
+            var transaction = current.getTransaction();
+            transaction.begin();
+            T result;
+            try {
+                result = call.get();
+                // like @Transactional, a transaction marked rollback-only is rolled back without an exception
+                if (transaction.getRollbackOnly()) {
+                    transaction.rollback();
+                    complete(Status.STATUS_ROLLEDBACK);
+                    return result;
+                }
+                transaction.commit();
+            } catch (RuntimeException e) {
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+                complete(Status.STATUS_ROLLEDBACK);
+                throw e;
+            }
+            complete(Status.STATUS_COMMITTED);
+            return result;
+        });
+    }
+
+    private void complete(int status) {
+        for (var synchronization : synchronizations) {
+            synchronization.afterCompletion(status);
+        }
+        synchronizations.clear();
+        resources.clear();
+    }
+
+    /**
+     * The registry over the resource-local transaction of the running call, which is all the transaction there is.
+     */
+    private final class Transactions implements TransactionSynchronizationRegistry {
+
+        @Override
+        public void registerInterposedSynchronization(Synchronization synchronization) {
+            active();
+            synchronizations.add(synchronization);
+        }
+
+        @Override
+        public Object getTransactionKey() {
+            return current != null && current.getTransaction().isActive() ? current.getTransaction() : null;
+        }
+
+        @Override
+        public void putResource(Object key, Object value) {
+            active();
+            resources.put(key, value);
+        }
+
+        @Override
+        public Object getResource(Object key) {
+            active();
+            return resources.get(key);
+        }
+
+        @Override
+        public int getTransactionStatus() {
+            if (getTransactionKey() == null) {
+                return Status.STATUS_NO_TRANSACTION;
+            }
+            return current.getTransaction().getRollbackOnly() ? Status.STATUS_MARKED_ROLLBACK : Status.STATUS_ACTIVE;
+        }
+
+        @Override
+        public void setRollbackOnly() {
+            active().setRollbackOnly();
+        }
+
+        @Override
+        public boolean getRollbackOnly() {
+            return active().getRollbackOnly();
+        }
+
+        private EntityTransaction active() {
+            if (getTransactionKey() == null) {
+                throw new IllegalStateException("No transaction is active");
+            }
+            return current.getTransaction();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package dev.rabauer.hibernate_vs_jooq.benchmarks;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.InvoiceRepository;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.ReadRouter;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.mapper.InvoiceMapper;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code GET /invoice/{id}} without HTTP: rows mapped to {@code ApiInvoiceDetail} and serialised by Jackson,
+ * against the JSON document rendered by PostgreSQL and copied out as is. Both write the response body to a
+ * discarding stream. Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} (bytes per request).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvoiceDetailBenchmark {
+
+    @Param({"1", "10", "100"})
+    int lines;
+
+    private final OutputStream response = OutputStream.nullOutputStream();
+
+    private Connection connection;
+    private DSLContext dsl;
+    private InvoiceRepository invoiceRepository;
+    private ObjectMapper objectMapper;
+    private BenchmarkDatabase.SeededInvoice invoice;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = BenchmarkDatabase.connect();
+        dsl = DSL.using(connection, SQLDialect.POSTGRES);
+        // the read paths touch neither the product repository nor the invoice cache (no Quarkus interceptors here)
+        invoiceRepository = new InvoiceRepository(dsl, new ReadRouter(dsl, dsl), null, null, null, true);
+        objectMapper = new ObjectMapper().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        invoice = BenchmarkDatabase.seedInvoice(dsl, lines);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        BenchmarkDatabase.delete(dsl, invoice);
+        connection.close();
+    }
+
+    @Benchmark
+    public void mappedDtos() throws IOException {
+        objectMapper.writeValue(response, InvoiceMapper.itemsToApiDetail(invoiceRepository.findItemsByInvoiceId(invoice.invoiceId())));
+    }
+
+    @Benchmark
+    public void jsonPassThrough() throws IOException {
+        response.write(invoiceRepository.findDetailJson(invoice.invoiceId()).getBytes(StandardCharsets.UTF_8));
+    }
+}
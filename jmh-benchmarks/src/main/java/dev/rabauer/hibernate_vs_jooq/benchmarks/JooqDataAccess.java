@@ -0,0 +1,75 @@
+package dev.rabauer.hibernate_vs_jooq.benchmarks;
+
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiCustomer;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiNewInvoice;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.CustomerRepository;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.InvoiceRepository;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.ProductRepository;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.ReadRouter;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.TableVersions;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.mapper.CustomerMapper;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.mapper.InvoiceMapper;
+import io.agroal.api.AgroalDataSource;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * {@code backend-jooq}'s repositories on the backend's connection pool, reads and writes on the primary. As with
+ * Quarkus' jOOQ extension, every statement outside a transaction takes a connection from the pool and returns it.
+ */
+final class JooqDataAccess implements DataAccess {
+
+    private final AgroalDataSource dataSource;
+    private final CustomerRepository customerRepository;
+    private final InvoiceRepository invoiceRepository;
+
+    JooqDataAccess() throws SQLException {
+        dataSource = BenchmarkDatabase.dataSource(Map.of());
+        var dsl = DSL.using(dataSource, SQLDialect.POSTGRES);
+        var reads = new ReadRouter(dsl, dsl);
+        var versions = new TableVersions();
+        customerRepository = new CustomerRepository(dsl, reads, versions);
+        invoiceRepository = new InvoiceRepository(dsl, reads,
+                new ProductRepository(DataAccess.cache(ProductRepository.PRODUCT_ID_CACHE)),
+                DataAccess.cache(InvoiceRepository.INVOICE_CACHE), versions, true);
+    }
+
+    @Override
+    public Object customerPage(int afterCustomerId, int limit) {
+        return customerRepository.findPage(afterCustomerId, limit, ApiCustomer::new);
+    }
+
+    @Override
+    public Object customerOverview(int customerId) {
+        return CustomerMapper.dbToApi(customerRepository.findOverview(customerId));
+    }
+
+    @Override
+    public Object invoiceDetail(int invoiceId) {
+        return InvoiceMapper.itemsToApiDetail(invoiceRepository.findItemsByInvoiceId(invoiceId));
+    }
+
+    @Override
+    public int createCustomer(String firstName, String lastName, String email) {
+        return customerRepository.create(firstName, lastName, email).customerId();
+    }
+
+    @Override
+    public int createInvoice(int customerId, int lines) {
+        var items = new ArrayList<ApiNewInvoice.ApiNewInvoiceItem>(lines);
+        for (int line = 0; line < lines; line++) {
+            items.add(new ApiNewInvoice.ApiNewInvoiceItem("Jmh product " + line, line * 100 + 99, 1 + line % 5));
+        }
+        return invoiceRepository.createInvoice(new ApiNewInvoice(customerId, Instant.now(), items));
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+}
@@ -0,0 +1,98 @@
+package dev.rabauer.hibernate_vs_jooq.benchmarks;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.CustomerListWriter;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.InvoiceListWriter;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiCustomer;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiInvoice;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbCustomer;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbInvoice;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.mapper.CustomerMapper;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.mapper.InvoiceMapper;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.mapper.MappedList;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The list bodies of {@code GET /customer} and {@code GET /customer/{id}/invoices} from the fetched rows to the
+ * response stream: mapped into a new list and serialised by Jackson ({@code jackson*}, how the resources did it
+ * before), against the {@code JsonListWriter}s writing a {@link MappedList} view ({@code streaming*}). No database,
+ * the rows are built in memory. Run with {@code -prof gc} for the bytes allocated per response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ListWriterBenchmark {
+
+    private static final Type CUSTOMERS = new TypeReference<List<ApiCustomer>>() {
+    }.getType();
+    private static final Type INVOICES = new TypeReference<List<ApiInvoice>>() {
+    }.getType();
+
+    @Param({"10", "10000", "1000000"})
+    int elements;
+
+    private final OutputStream response = OutputStream.nullOutputStream();
+
+    private List<DbCustomer> customers;
+    private List<DbInvoice> invoices;
+    private ObjectWriter jacksonCustomers;
+    private ObjectWriter jacksonInvoices;
+    private CustomerListWriter customerListWriter;
+    private InvoiceListWriter invoiceListWriter;
+
+    @Setup
+    public void setUp() {
+        customers = new ArrayList<>(elements);
+        invoices = new ArrayList<>(elements);
+        LocalDate firstDay = LocalDate.of(2024, 1, 1);
+        for (int i = 1; i <= elements; i++) {
+            customers.add(new DbCustomer(i, "First" + i, "Last" + i, "customer" + i + "@example.com"));
+            invoices.add(new DbInvoice(i, firstDay.plusDays(i % 730), i % 100_000));
+        }
+        // configured like the application's mapper for these types
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        jacksonCustomers = objectMapper.writerFor(objectMapper.constructType(CUSTOMERS));
+        jacksonInvoices = objectMapper.writerFor(objectMapper.constructType(INVOICES));
+        customerListWriter = new CustomerListWriter(objectMapper);
+        invoiceListWriter = new InvoiceListWriter(objectMapper);
+    }
+
+    @Benchmark
+    public void jacksonCustomers() throws IOException {
+        jacksonCustomers.writeValue(response, customers.stream().map(CustomerMapper::dbToApi).toList());
+    }
+
+    @Benchmark
+    public void streamingCustomers() throws IOException {
+        customerListWriter.writeTo(MappedList.of(customers, CustomerMapper::dbToApi), List.class, CUSTOMERS, null, null, null, response);
+    }
+
+    @Benchmark
+    public void jacksonInvoices() throws IOException {
+        jacksonInvoices.writeValue(response, invoices.stream().map(InvoiceMapper::dbToApi).toList());
+    }
+
+    @Benchmark
+    public void streamingInvoices() throws IOException {
+        invoiceListWriter.writeTo(MappedList.of(invoices, InvoiceMapper::dbToApi), List.class, INVOICES, null, null, null, response);
+    }
+}
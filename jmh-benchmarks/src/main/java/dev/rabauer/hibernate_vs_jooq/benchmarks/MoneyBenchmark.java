@@ -0,0 +1,81 @@
+package dev.rabauer.hibernate_vs_jooq.benchmarks;
+
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiNewInvoice;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbProductKey;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.InvoiceRepository;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.ProductRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The money handling of {@code POST /invoice} before the insert: the invoice total and the product keys the lines
+ * are merged by. {@code decimal} is how the repositories did it with {@code double} prices in the API and
+ * {@link BigDecimal} keys, {@code cents} is the current {@code long} arithmetic. No database. Run with
+ * {@code -prof gc} for the bytes allocated per invoice.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    record DecimalItem(String productName, double price, int quantity) {
+    }
+
+    record DecimalProductKey(String name, BigDecimal price) {
+    }
+
+    @Param({"1", "10", "100"})
+    int lines;
+
+    private List<DecimalItem> decimalItems;
+    private List<ApiNewInvoice.ApiNewInvoiceItem> centsItems;
+
+    @Setup
+    public void setUp() {
+        decimalItems = new ArrayList<>(lines);
+        centsItems = new ArrayList<>(lines);
+        for (int line = 0; line < lines; line++) {
+            // every other line repeats a product, so both variants merge lines
+            String name = "Product " + line / 2;
+            long priceCents = line / 2 * 100 + 99;
+            decimalItems.add(new DecimalItem(name, priceCents / 100.0, 1 + line % 5));
+            centsItems.add(new ApiNewInvoice.ApiNewInvoiceItem(name, priceCents, 1 + line % 5));
+        }
+    }
+
+    @Benchmark
+    public void decimal(Blackhole blackhole) {
+        BigDecimal total = decimalItems.stream()
+                .map(i -> BigDecimal.valueOf(i.price()).multiply(BigDecimal.valueOf(i.quantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        Map<DecimalProductKey, Integer> quantities = new LinkedHashMap<>();
+        for (var item : decimalItems) {
+            var key = new DecimalProductKey(item.productName(), BigDecimal.valueOf(item.price()).setScale(2, RoundingMode.HALF_UP));
+            quantities.merge(key, item.quantity(), Integer::sum);
+        }
+        blackhole.consume(total);
+        blackhole.consume(quantities);
+    }
+
+    @Benchmark
+    public void cents(Blackhole blackhole) {
+        long total = InvoiceRepository.totalCents(centsItems);
+        Map<DbProductKey, Integer> quantities = new LinkedHashMap<>();
+        for (var item : centsItems) {
+            quantities.merge(ProductRepository.key(item.productName(), item.priceCents()), item.quantity(), Integer::sum);
+        }
+        blackhole.consume(total);
+        blackhole.consume(quantities);
+    }
+}
@@ -0,0 +1,91 @@
+package dev.rabauer.hibernate_vs_jooq.benchmarks;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiCustomer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The body of {@code GET /customer} in the formats the backends negotiate: JSON or Smile, each plain or gzipped as
+ * the HTTP layer does for {@code Accept-Encoding: gzip}. No database, the customers are built in memory. The size of
+ * every variant is printed once during setup; the score is the time to serialise (and compress) one response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadFormatBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Anna", "Ben", "Clara", "David", "Emma", "Felix", "Greta", "Hannes"};
+    private static final String[] LAST_NAMES = {"Huber", "Bauer", "Wagner", "Gruber", "Pichler", "Steiner", "Moser"};
+
+    @Param({"100", "1000"})
+    int customers;
+
+    @Param({"json", "smile"})
+    String format;
+
+    @Param({"none", "gzip"})
+    String compression;
+
+    // discards like OutputStream.nullOutputStream(), but stays usable after the GZIPOutputStream closed it
+    private final OutputStream response = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    private List<ApiCustomer> body;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        body = new ArrayList<>(customers);
+        for (int i = 1; i <= customers; i++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            body.add(new ApiCustomer(i, firstName, lastName, (firstName + "." + lastName + i + "@example.com").toLowerCase()));
+        }
+        ObjectMapper objectMapper = new ObjectMapper();
+        writer = ("smile".equals(format) ? objectMapper.copyWith(new SmileFactory()) : objectMapper)
+                .writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        ByteArrayOutputStream measured = new ByteArrayOutputStream();
+        write(measured);
+        System.out.printf("%n%d customers as %s, compression %s: %d bytes%n", customers, format, compression, measured.size());
+    }
+
+    @Benchmark
+    public void serialise() throws IOException {
+        write(response);
+    }
+
+    private void write(OutputStream out) throws IOException {
+        if ("gzip".equals(compression)) {
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                writer.writeValue(gzip, body);
+            }
+        } else {
+            writer.writeValue(out, body);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package dev.rabauer.hibernate_vs_jooq.benchmarks;
+
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbInvoiceItem;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.InvoiceRepository;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.repositories.ReadRouter;
+import org.jooq.DSLContext;
+import org.jooq.ResultQuery;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.InvoiceItem.INVOICE_ITEM;
+import static dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Product.PRODUCT;
+
+/**
+ * {@code InvoiceRepository.findItemsByInvoiceId} through its pre-rendered query template, against the jOOQ query
+ * it replaced, which was built, rendered and mapped with {@code fetchInto} on every call. {@code buildAndRender}
+ * is the per-call overhead alone, without a round trip. Run with {@code -prof gc} for the bytes per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryTemplateBenchmark {
+
+    @Param({"1", "10", "100"})
+    int lines;
+
+    private Connection connection;
+    private DSLContext dsl;
+    private InvoiceRepository invoiceRepository;
+    private BenchmarkDatabase.SeededInvoice invoice;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = BenchmarkDatabase.connect();
+        dsl = DSL.using(connection, SQLDialect.POSTGRES);
+        invoiceRepository = new InvoiceRepository(dsl, new ReadRouter(dsl, dsl), null, null, null, true);
+        invoice = BenchmarkDatabase.seedInvoice(dsl, lines);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        BenchmarkDatabase.delete(dsl, invoice);
+        connection.close();
+    }
+
+    @Benchmark
+    public String buildAndRender() {
+        return dsl.render(itemsQuery(invoice.invoiceId()));
+    }
+
+    @Benchmark
+    public List<DbInvoiceItem> dslFetch() {
+        return itemsQuery(invoice.invoiceId()).fetchInto(DbInvoiceItem.class);
+    }
+
+    @Benchmark
+    public List<DbInvoiceItem> templateFetch() {
+        return invoiceRepository.findItemsByInvoiceId(invoice.invoiceId());
+    }
+
+    private ResultQuery<?> itemsQuery(int invoiceId) {
+        return dsl.select(INVOICE_ITEM.QUANTITY, INVOICE_ITEM.UNIT_PRICE, PRODUCT.PRODUCT_NAME, PRODUCT.PRICE)
+                .from(INVOICE_ITEM)
+                .join(PRODUCT).on(INVOICE_ITEM.PRODUCT_ID.eq(PRODUCT.PRODUCT_ID))
+                .where(INVOICE_ITEM.INVOICE_ID.eq(invoiceId));
+    }
+}
@@ -0,0 +1,59 @@
+package dev.rabauer.hibernate_vs_jooq.benchmarks;
+
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.api.dtos.ApiCustomer;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.db.dtos.DbCustomer;
+import dev.rabauer.hibernate_vs_jooq.backend_jooq.mapper.CustomerMapper;
+import org.jooq.DSLContext;
+import org.jooq.Record4;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Customer.CUSTOMER;
+import static org.jooq.Records.mapping;
+
+/**
+ * The rows of {@code CustomerRepository.findPage} into the {@code ApiCustomer}s of {@code GET /customer}: through
+ * jOOQ's reflective {@code DefaultRecordMapper} into {@code DbCustomer}s and then {@code CustomerMapper}
+ * ({@code reflective}, how the repository did it before), against {@code Records.mapping(ApiCustomer::new)}, which
+ * passes the columns by index to the constructor ({@code indexed}). No database, the fetched result is built in
+ * memory. Run with {@code -prof gc} for the bytes allocated per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecordMappingBenchmark {
+
+    @Param({"100", "1000"})
+    int customers;
+
+    private Result<Record4<Integer, String, String, String>> page;
+
+    @Setup
+    public void setUp() {
+        DSLContext dsl = DSL.using(SQLDialect.POSTGRES);
+        page = dsl.newResult(CUSTOMER.CUSTOMER_ID, CUSTOMER.FIRST_NAME, CUSTOMER.LAST_NAME, CUSTOMER.EMAIL);
+        for (int i = 1; i <= customers; i++) {
+            var row = dsl.newRecord(CUSTOMER.CUSTOMER_ID, CUSTOMER.FIRST_NAME, CUSTOMER.LAST_NAME, CUSTOMER.EMAIL);
+            row.values(i, "First" + i, "Last" + i, "customer" + i + "@example.com");
+            page.add(row);
+        }
+    }
+
+    @Benchmark
+    public List<ApiCustomer> reflective() {
+        return page.into(DbCustomer.class).stream().map(CustomerMapper::dbToApi).toList();
+    }
+
+    @Benchmark
+    public List<ApiCustomer> indexed() {
+        return page.map(mapping(ApiCustomer::new));
+    }
+}
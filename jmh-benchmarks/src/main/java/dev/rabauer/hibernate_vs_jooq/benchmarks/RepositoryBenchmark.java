@@ -0,0 +1,119 @@
+package dev.rabauer.hibernate_vs_jooq.benchmarks;
+
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static dev.rabauer.hibernate_vs_jooq.backend_jooq.generated.tables.Customer.CUSTOMER;
+
+/**
+ * The same repository calls on {@code backend-jooq} and {@code backend-hibernate} ({@code layer}), against the same
+ * rows seeded with jOOQ before each trial: {@value #PAGE_SIZE} customers for the page, and a customer with
+ * {@value #INVOICES} invoices of {@code lines} lines each for the overview and the invoice detail.
+ * <ul>
+ *     <li>{@code emptyPage}: the customer page query past the last customer, the per-query cost of building or
+ *     translating the query, binding and the round trip, without any rows.</li>
+ *     <li>{@code customerPage}, {@code customerOverview}, {@code invoiceDetail}: the reads, including hydrating
+ *     the rows and mapping them to the {@code Api*} DTOs.</li>
+ *     <li>{@code createCustomer}, {@code createInvoice}: the writes, each in its own transaction; the invoices'
+ *     products exist, so those are the cached lookups of a steady state.</li>
+ * </ul>
+ * Run with {@code -prof gc} for the bytes allocated per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    static final int PAGE_SIZE = 100;
+    static final int INVOICES = 10;
+    private static final String CREATED_EMAIL = "jmh-created-";
+
+    @Param({"jooq", "hibernate"})
+    String layer;
+
+    @Param({"1", "10", "100"})
+    int lines;
+
+    private Connection connection;
+    private DSLContext dsl;
+    private DataAccess dataAccess;
+
+    private final List<Integer> seededCustomers = new ArrayList<>();
+    private int pageStart;
+    private int overviewCustomer;
+    private int invoice;
+    private int writingCustomer;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = BenchmarkDatabase.connect();
+        dsl = DSL.using(connection, SQLDialect.POSTGRES);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            seededCustomers.add(BenchmarkDatabase.seedCustomer(dsl, "Page"));
+        }
+        pageStart = seededCustomers.get(0) - 1;
+
+        overviewCustomer = BenchmarkDatabase.seedCustomer(dsl, "Overview");
+        seededCustomers.add(overviewCustomer);
+        for (int i = 0; i < INVOICES; i++) {
+            invoice = BenchmarkDatabase.seedInvoice(dsl, overviewCustomer, lines);
+        }
+
+        writingCustomer = BenchmarkDatabase.seedCustomer(dsl, "Writes");
+        seededCustomers.add(writingCustomer);
+
+        dataAccess = switch (layer) {
+            case "jooq" -> new JooqDataAccess();
+            case "hibernate" -> new HibernateDataAccess();
+            default -> throw new IllegalArgumentException(layer);
+        };
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        dataAccess.close();
+        BenchmarkDatabase.delete(dsl, CUSTOMER.CUSTOMER_ID.in(seededCustomers).or(CUSTOMER.EMAIL.like(CREATED_EMAIL + "%")));
+        connection.close();
+    }
+
+    @Benchmark
+    public Object emptyPage() {
+        return dataAccess.customerPage(Integer.MAX_VALUE, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Object customerPage() {
+        return dataAccess.customerPage(pageStart, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Object customerOverview() {
+        return dataAccess.customerOverview(overviewCustomer);
+    }
+
+    @Benchmark
+    public Object invoiceDetail() {
+        return dataAccess.invoiceDetail(invoice);
+    }
+
+    @Benchmark
+    public int createCustomer() {
+        return dataAccess.createCustomer("Jmh", "Created", CREATED_EMAIL + System.nanoTime() + "@example.com");
+    }
+
+    @Benchmark
+    public int createInvoice() {
+        return dataAccess.createInvoice(writingCustomer, lines);
+    }
+}